@@ -0,0 +1,79 @@
+# export_forecast.py
+#!/usr/bin/env python3
+# -*- coding: utf-8 -*-
+# 모든 (주차장, 요일, 시간) 칸의 혼잡도 예측값을 미리 계산해 백엔드용 고정 크기 float 표로 저장한다.
+# 백엔드(CongestionForecastTable)는 이 파일을 메모리 매핑하고, 파일이 바뀌면 다시 읽는다.
+#
+# 사용법: python3 export_forecast.py [출력 경로]   (train.py 가 학습을 마치면 자동으로 실행한다)
+import os
+import sys
+import struct
+
+MAGIC = 0x43474631  # "CGF1"
+AVG_COLUMNS = ["주차면수","입차대수","출차대수","지난주_혼잡도","지지난주_혼잡도","지지지난주_혼잡도"]
+CELLS = 7 * 24
+
+def build_inputs(lots):
+    import pandas as pd
+    from score import df, scaler, ordinal, fit_columns
+
+    # predict_congestion 과 같은 입력: (주차장, 요일, 시간) 평균, 칸이 비면 주차장 전체 평균
+    cell = df.groupby(["주차장명","요일","시간"])[AVG_COLUMNS].mean()
+    whole = df.groupby("주차장명")[AVG_COLUMNS].mean()
+
+    rows = []
+    for name in lots:
+        for wd in range(7):
+            for hr in range(24):
+                key = (name, float(wd), float(hr))
+                avg = cell.loc[key] if key in cell.index else whole.loc[name]
+                rows.append([*avg.values, hr, wd])
+
+    inp = pd.DataFrame(rows, columns=AVG_COLUMNS + ["시간","요일"])
+    inp = inp.reindex(columns=fit_columns)
+    inp[["요일"]] = ordinal.transform(inp[["요일"]])
+    nums = [c for c in fit_columns if c != "요일"]
+    inp[nums] = scaler.transform(inp[nums])
+    return inp
+
+# 0~100 으로 자른 값을 big-endian float32 로. NaN(예측 불가)은 그대로 둔다
+def clip_percent(v):
+    v = float(v)
+    return v if v != v else min(100.0, max(0.0, v))
+
+# lots 순서대로 (주차장 * 7 + 요일) * 24 + 시간 순의 값 len(lots) * CELLS 개를 표 파일로 쓴다
+def write_table(path, lots, values):
+    values = [clip_percent(v) for v in values]
+    if len(values) != len(lots) * CELLS:
+        raise ValueError(f"예측값 개수 불일치: {len(values)} != {len(lots)} × {CELLS}")
+
+    # 쓰는 도중의 파일을 백엔드가 읽지 않도록 임시 파일에 쓴 뒤 교체
+    tmp = path + ".tmp"
+    with open(tmp, "wb") as out:
+        out.write(struct.pack(">iii", MAGIC, len(lots), CELLS))
+        size = 12
+        for name in lots:
+            b = name.encode("utf-8")
+            out.write(struct.pack(">H", len(b)))
+            out.write(b)
+            size += 2 + len(b)
+        out.write(b"\0" * (-size % 4))  # float 영역 4바이트 정렬
+        # 바이트 순서를 형식 문자열로 고정 (numpy 기본 순서는 플랫폼을 따른다)
+        out.write(struct.pack(f">{len(values)}f", *values))
+    os.replace(tmp, path)
+
+def main(path=None):
+    from score import df, model
+
+    if path is None:
+        path = sys.argv[1] if len(sys.argv) > 1 else "congestion_forecast.bin"
+    lots = sorted(df["주차장명"].unique())
+
+    # 한 번의 predict 호출로 전체 표 계산
+    pred = model.predict(build_inputs(lots))
+    write_table(path, lots, pred.tolist())
+
+    print(f"[INFO] {path} 저장 완료: 주차장 {len(lots)}개 × {CELLS}칸", file=sys.stderr)
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,124 @@
+# export_model.py
+#!/usr/bin/env python3
+# -*- coding: utf-8 -*-
+# 학습된 모델(model/scaler/ordinal.joblib)과 주차장별 평균 특징값을 백엔드용 바이너리로 내보낸다.
+# 백엔드(XgbCongestionPredictor)는 이 파일만으로 predict_congestion과 같은 값을 계산한다.
+#
+# 사용법: python3 export_model.py [출력 경로] [검증 샘플 수]
+import sys
+import json
+import math
+import struct
+import random
+
+# score.py 를 임포트하면 학습과 동일한 전처리가 끝난 df 와 전처리기·모델이 로드된다
+from score import df, scaler, ordinal, fit_columns, model, predict_congestion
+
+MAGIC = 0x43474D31  # "CGM1"
+AVG_COLUMNS = ["주차면수","입차대수","출차대수","지난주_혼잡도","지지난주_혼잡도","지지지난주_혼잡도"]
+SRC_HOUR, SRC_WEEKDAY = len(AVG_COLUMNS), len(AVG_COLUMNS) + 1
+KIND_SCALED, KIND_ORDINAL = 0, 1
+
+def put_str(out, s):
+    b = s.encode("utf-8")
+    out.write(struct.pack(">H", len(b)))
+    out.write(b)
+
+def write_features(out):
+    # 특징 순서는 학습 시 fit_columns 그대로. 각 특징이 어떤 입력값에서 오는지와 변환 방법을 기록
+    scaled_names = list(getattr(scaler, "feature_names_in_", [c for c in fit_columns if c != "요일"]))
+    out.write(struct.pack(">i", len(fit_columns)))
+    for col in fit_columns:
+        put_str(out, col)
+        if col == "요일":
+            out.write(struct.pack(">ii", SRC_WEEKDAY, KIND_ORDINAL))
+            cats = list(ordinal.categories_[0])
+            for wd in range(7):
+                out.write(struct.pack(">d", float(cats.index(wd)) if wd in cats else float("nan")))
+        else:
+            src = SRC_HOUR if col == "시간" else AVG_COLUMNS.index(col)
+            i = scaled_names.index(col)
+            out.write(struct.pack(">ii", src, KIND_SCALED))
+            out.write(struct.pack(">dd", float(scaler.mean_[i]), float(scaler.scale_[i])))
+
+def parse_base_score(value):
+    # XGBoost 버전에 따라 "5E-1" 또는 "[5E-1]" (다중 출력은 "[a,b,...]") 형태로 저장된다. 첫 값을 사용
+    text = str(value).strip().strip("[]")
+    return float(text.split(",")[0])
+
+def write_trees(out):
+    booster = model.get_booster()
+    base_score = parse_base_score(json.loads(booster.save_config())["learner"]["learner_model_param"]["base_score"])
+    trees = booster.trees_to_dataframe()
+    feature_index = {name: i for i, name in enumerate(fit_columns)}
+    feature_index.update({f"f{i}": i for i in range(len(fit_columns))})
+
+    # 모든 트리의 노드를 하나의 배열로 이어 붙이고, 자식 포인터는 전체 배열 기준 인덱스로 바꾼다
+    roots, nodes, offset = [], [], 0
+    for _, tree in trees.groupby("Tree", sort=True):
+        tree = tree.sort_values("Node")
+        ids = {nid: offset + k for k, nid in enumerate(tree["ID"])}
+        roots.append(offset)
+        for _, n in tree.iterrows():
+            if n["Feature"] == "Leaf":
+                nodes.append((-1, 0.0, -1, -1, -1, float(n["Gain"])))
+            else:
+                nodes.append((feature_index[n["Feature"]], float(n["Split"]),
+                              ids[n["Yes"]], ids[n["No"]], ids[n["Missing"]], 0.0))
+        offset += len(tree)
+
+    out.write(struct.pack(">f", base_score))
+    out.write(struct.pack(">ii", len(roots), len(nodes)))
+    for r in roots:
+        out.write(struct.pack(">i", r))
+    for f, split, yes, no, miss, leaf in nodes:
+        out.write(struct.pack(">ifiiif", f, split, yes, no, miss, leaf))
+
+def write_lots(out):
+    # predict_congestion 과 같은 평균: (주차장, 요일, 시간) 셀, 셀이 비면 주차장 전체 평균
+    lots = sorted(df["주차장명"].unique())
+    cell = df.groupby(["주차장명","요일","시간"])[AVG_COLUMNS].mean()
+    whole = df.groupby("주차장명")[AVG_COLUMNS].mean()
+
+    out.write(struct.pack(">i", len(lots)))
+    for name in lots:
+        put_str(out, name)
+        out.write(struct.pack(">6d", *[float(v) for v in whole.loc[name]]))
+        for wd in range(7):
+            for hr in range(24):
+                key = (name, float(wd), float(hr))
+                vals = cell.loc[key] if key in cell.index else [float("nan")] * len(AVG_COLUMNS)
+                out.write(struct.pack(">6d", *[float(v) for v in vals]))
+    return lots
+
+def write_fixtures(out, lots, samples):
+    # 파이썬 예측값을 함께 저장해 두면 백엔드가 로드 시점에 결과가 일치하는지 검증한다
+    rnd = random.Random(42)
+    rows = []
+    for _ in range(samples):
+        idx = rnd.randrange(len(lots))
+        weekday, hour = rnd.randint(1, 7), rnd.randint(0, 23)
+        expected = predict_congestion(lots[idx], weekday, hour)
+        if not math.isnan(expected):
+            rows.append((idx, weekday, hour, expected))
+
+    out.write(struct.pack(">i", len(rows)))
+    for idx, weekday, hour, expected in rows:
+        out.write(struct.pack(">iiid", idx, weekday, hour, expected))
+    return len(rows)
+
+def main():
+    path = sys.argv[1] if len(sys.argv) > 1 else "congestion_model.bin"
+    samples = int(sys.argv[2]) if len(sys.argv) > 2 else 200
+
+    with open(path, "wb") as out:
+        out.write(struct.pack(">i", MAGIC))
+        write_features(out)
+        write_trees(out)
+        lots = write_lots(out)
+        n = write_fixtures(out, lots, samples)
+
+    print(f"[INFO] {path} 저장 완료: 주차장 {len(lots)}개, 검증 샘플 {n}개", file=sys.stderr)
+
+if __name__ == "__main__":
+    main()
@@ -4,6 +4,7 @@
 import sys
 import json
 import math
+import struct
 import pandas as pd
 import numpy as np
 import joblib
@@ -168,8 +169,78 @@ def recommend(candidates, duration=120, lat0=None, lon0=None):
         out[key]=temp
     return out
 
+# 추천 결과를 응답 형식으로 변환
+def build_result(data):
+    res=recommend(data["candidates"],data.get("parking_duration",120),data.get("base_lat"),data.get("base_lon"))
+    return [{"p_id":i["p_id"],"주차장명": i["p_id"], **{k:round(next(x["score"] for x in res[k] if x["p_id"]==i["p_id"]),2) for k in res}} for i in res["혼잡도우선"]]
+
+# 혼잡도 예측만 수행 (점수 계산은 백엔드에서 처리)
+# 질의: {"lot": p_id, "name": 주차장명, "weekday", "hour"} → 질의 순서대로 혼잡도(%) 목록, 예측 불가면 None
+def build_predictions(data):
+    out=[]
+    for q in data["queries"]:
+        cong = predict_congestion(q["name"], q.get("weekday",1), q.get("hour",0))
+        out.append(None if math.isnan(cong) else float(np.clip(cong,0,100)))
+    return out
+
+# 워커 모드 프레임: 4바이트 big-endian 길이 + 본문 (--codec cbor 이면 CBOR, 아니면 UTF-8 JSON)
+def json_codec():
+    return (lambda b: json.loads(b.decode("utf-8")),
+            lambda o: json.dumps(o, ensure_ascii=False).encode("utf-8"))
+
+def cbor_codec():
+    import cbor2
+    return cbor2.loads, cbor2.dumps
+
+decode, encode = json_codec()
+
+def read_frame(stream):
+    header = stream.read(4)
+    if len(header) < 4:
+        return None
+    (length,) = struct.unpack(">I", header)
+    body = stream.read(length)
+    if len(body) < length:
+        return None
+    return decode(body)
+
+def write_frame(stream, obj):
+    body = encode(obj)
+    stream.write(struct.pack(">I", len(body)))
+    stream.write(body)
+    stream.flush()
+
+# 상주 워커: 모델/데이터는 프로세스 시작 시 한 번만 로드하고 요청을 반복 처리
+def worker(codec="json"):
+    global decode, encode
+    decode, encode = cbor_codec() if codec == "cbor" else json_codec()
+    stdin, stdout = sys.stdin.buffer, sys.stdout.buffer
+    sys.stdout = sys.stderr  # 프레임 이외의 출력이 stdout에 섞이지 않도록
+    while True:
+        req = read_frame(stdin)
+        if req is None:
+            break
+        try:
+            op = req.get("op")
+            if op == "ping":
+                result = "pong"
+            elif op == "score":
+                result = build_result(req["payload"])
+            elif op == "predict":
+                result = build_predictions(req["payload"])
+            else:
+                raise ValueError(f"unknown op: {op}")
+            write_frame(stdout, {"id": req.get("id"), "ok": True, "result": result})
+        except Exception as e:
+            print(f"[ERROR] 요청 처리 실패: {e}", file=sys.stderr)
+            write_frame(stdout, {"id": req.get("id"), "ok": False, "error": str(e)})
+
 # 출력 + JSON 리턴
 def main():
+    if "--worker" in sys.argv:
+        codec = sys.argv[sys.argv.index("--codec") + 1] if "--codec" in sys.argv else "json"
+        worker(codec)
+        return
     try: data=json.load(sys.stdin)
         #예시 데이터
     except: data={"candidates":[
@@ -177,8 +248,7 @@ def main():
         {"p_id":"볕우물","review":3.5,"weekday":3,"hour":14},
         {"p_id":"용산주차빌딩","review":4.9,"weekday":3,"hour":14}
     ],"parking_duration":120,"base_lat":37.450,"base_lon":127.129}
-    res=recommend(data["candidates"],data.get("parking_duration",120),data.get("base_lat"),data.get("base_lon"))
 
-    json.dump([{"p_id":i["p_id"],"주차장명": i["p_id"], **{k:round(next(x["score"] for x in res[k] if x["p_id"]==i["p_id"]),2) for k in res}} for i in res["혼잡도우선"]], sys.stdout, ensure_ascii=False, indent=2)
+    json.dump(build_result(data), sys.stdout, ensure_ascii=False, indent=2)
 
 if __name__=="__main__": main()
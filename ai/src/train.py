@@ -65,3 +65,8 @@ joblib.dump(ordinal, "ordinal.joblib")
 joblib.dump(fit_columns, "fit_columns.joblib")
 joblib.dump(model, "model.joblib")
 print("모델 학습 완료, 파일 저장됨: scaler.joblib, ordinal.joblib, fit_columns.joblib, model.joblib")
+
+# 백엔드용 예측표 갱신 (백엔드는 파일 변경을 감지해 다시 읽음)
+# export_forecast 는 임포트 시 위에서 저장한 joblib 파일을 읽으므로 저장 이후에 임포트한다
+import export_forecast
+export_forecast.main("congestion_forecast.bin")
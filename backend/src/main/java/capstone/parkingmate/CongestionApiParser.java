@@ -1,70 +1,114 @@
 package capstone.parkingmate;
 
 import capstone.parkingmate.dto.CongestionDTO;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.DocumentBuilder;
-import java.util.ArrayList;
-import java.util.List;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 public class CongestionApiParser {
 
-    private static final String API_KEY = "4a62524852746b7336395852546864";
-    private static final String BASE_URL = "http://openapi.seoul.go.kr:8088/" + API_KEY + "/xml/GetParkingInfo";
-    private static final int PAGE_SIZE = 1000;
+    // StAX 팩토리는 스레드 안전하므로 한 번만 생성
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
 
-    public static List<CongestionDTO> fetchCongestionData() {
-        List<CongestionDTO> result = new ArrayList<>();
-        int start = 1;
+    // 한 페이지 분량의 XML을 스트리밍으로 읽으며 행 단위로 sink에 넘긴다.
+    public static PageResult parsePage(InputStream in, Function<String, Long> pidResolver, boolean dropUnmapped,
+                                Consumer<CongestionDTO> sink) throws XMLStreamException {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+        int rows = 0;
+        int totalCount = -1;
 
         try {
-            while (true) {
-                int end = start + PAGE_SIZE - 1;
-                String url = BASE_URL + "/" + start + "/" + end;
-                Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(url);
-                doc.getDocumentElement().normalize();
-
-                NodeList rows = doc.getElementsByTagName("row");
-                if (rows.getLength() == 0) break;
-
-                for (int i = 0; i < rows.getLength(); i++) {
-                    Element row = (Element) rows.item(i);
-
-                    String name = getTagValue("PKLT_NM", row);
-                    String totalStr = getTagValue("TPKCT", row);
-                    String nowStr = getTagValue("NOW_PRK_VHCL_CNT", row);
-
-                    if (name != null && totalStr != null && nowStr != null) {
-                        int total = Integer.parseInt(totalStr);
-                        int now = Integer.parseInt(nowStr);
-
-                        // 방어 코드: 현재 차량 수가 총 면수보다 크면, 총 면수로 보정
-                        if (now > total) {
-                            now = total;
+            String name = null;
+            String totalStr = null;
+            String nowStr = null;
+            Long pid = null;
+            boolean skipRow = false;
+
+            while (reader.hasNext()) {
+                int event = reader.next();
+
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String tag = reader.getLocalName();
+                    if ("list_total_count".equals(tag)) {
+                        totalCount = parseIntOrDefault(reader.getElementText(), -1);
+                    } else if ("row".equals(tag)) {
+                        rows++;
+                        name = totalStr = nowStr = null;
+                        pid = null;
+                        skipRow = false;
+                    } else if (skipRow) {
+                        // 매핑 실패한 행의 나머지 필드는 읽지 않음
+                    } else if ("PKLT_NM".equals(tag)) {
+                        name = reader.getElementText().trim();
+                        pid = pidResolver.apply(name);
+                        skipRow = dropUnmapped && pid == null;
+                    } else if ("TPKCT".equals(tag)) {
+                        totalStr = reader.getElementText();
+                    } else if ("NOW_PRK_VHCL_CNT".equals(tag)) {
+                        nowStr = reader.getElementText();
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && "row".equals(reader.getLocalName())) {
+                    if (!skipRow && name != null && totalStr != null && nowStr != null) {
+                        CongestionDTO dto = toDto(name, totalStr, nowStr, pid);
+                        if (dto != null) {
+                            sink.accept(dto);
                         }
-
-                        result.add(new CongestionDTO(name.trim(), total, now));
                     }
                 }
-
-                start += PAGE_SIZE;
             }
-
-        } catch (Exception e) {
-            e.printStackTrace();
+        } finally {
+            reader.close();
         }
 
-        return result;
+        return new PageResult(rows, totalCount);
     }
 
-    private static String getTagValue(String tag, Element element) {
-        NodeList list = element.getElementsByTagName(tag);
-        if (list.getLength() > 0 && list.item(0).getFirstChild() != null) {
-            return list.item(0).getFirstChild().getNodeValue();
+    private static int parseIntOrDefault(String value, int defaultValue) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
         }
-        return null;
+    }
+
+    private static CongestionDTO toDto(String name, String totalStr, String nowStr, Long pid) {
+        int total;
+        int now;
+        try {
+            total = Integer.parseInt(totalStr.trim());
+            now = Integer.parseInt(nowStr.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        // 방어 코드: 현재 차량 수가 총 면수보다 크면, 총 면수로 보정
+        if (now > total) {
+            now = total;
+        }
+
+        return new CongestionDTO(name, total, now, pid);
+    }
+
+    // 페이지 파싱 결과. rowCount는 버린 행 포함, totalCount는 피드 전체 행 수 (없으면 -1)
+    @Getter
+    @RequiredArgsConstructor
+    public static class PageResult {
+        private final int rowCount;
+        private final int totalCount;
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
     }
 }
@@ -0,0 +1,41 @@
+package capstone.parkingmate.config;
+
+import capstone.parkingmate.handler.ScoringBulkheadInterceptor;
+import capstone.parkingmate.util.Bulkhead;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// 점수 계산 경로별 동시 실행 제한 (/all 과 /recommendations/* 는 서로 다른 한도)
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final Bulkhead allBulkhead;
+    private final Bulkhead recommendationBulkhead;
+    private final long retryAfterSeconds;
+
+    public WebConfig(
+            MeterRegistry meterRegistry,
+            @Value("${scoring.bulkhead.all.max-concurrent:4}") int allMaxConcurrent,
+            @Value("${scoring.bulkhead.all.max-queue:8}") int allMaxQueue,
+            @Value("${scoring.bulkhead.all.max-wait-ms:2000}") long allMaxWaitMs,
+            @Value("${scoring.bulkhead.recommendations.max-concurrent:16}") int recMaxConcurrent,
+            @Value("${scoring.bulkhead.recommendations.max-queue:32}") int recMaxQueue,
+            @Value("${scoring.bulkhead.recommendations.max-wait-ms:1000}") long recMaxWaitMs,
+            @Value("${scoring.bulkhead.retry-after-seconds:2}") long retryAfterSeconds
+    ) {
+        this.allBulkhead = new Bulkhead("all", allMaxConcurrent, allMaxQueue, allMaxWaitMs, meterRegistry);
+        this.recommendationBulkhead = new Bulkhead("recommendations", recMaxConcurrent, recMaxQueue, recMaxWaitMs, meterRegistry);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ScoringBulkheadInterceptor(allBulkhead, retryAfterSeconds))
+                .addPathPatterns("/api/parking-lots/all");
+        registry.addInterceptor(new ScoringBulkheadInterceptor(recommendationBulkhead, retryAfterSeconds))
+                .addPathPatterns("/api/parking-lots/recommendations/**");
+    }
+}
@@ -87,6 +87,15 @@ public class AdminController {
         return ResponseEntity.ok(adminService.search_parkingLots(keyword));
     }
 
+    // 총 주차면수 보정표 다시 읽기
+    @PostMapping("/parking-capacity/reload")
+    public ResponseEntity<ResponseData<Integer>> reload_parkingCapacity() {
+
+        int entries = adminService.reload_parkingCapacity();
+
+        return ResponseEntity.ok(ResponseData.res(HttpStatus.OK, "총 주차면수 보정표 재로드 성공", entries));
+    }
+
     // 평점 리스트 조회
     @GetMapping("/ratings")
     public ResponseEntity<ResponseData<List<RatingResponseDTO>>> retrieve_ratings() {
@@ -0,0 +1,30 @@
+package capstone.parkingmate.controller;
+
+import capstone.parkingmate.service.CongestionStreamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/parking-lots")
+public class CongestionStreamController {
+
+    private final CongestionStreamService congestionStreamService;
+
+    // 실시간 혼잡도 변경 스트림 (SSE)
+    // p_ids 또는 영역(min_lat, min_lon, max_lat, max_lon)으로 대상 주차장 지정
+    @GetMapping(value = "/congestion-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter congestion_stream(
+            @RequestParam(value = "p_ids", required = false) Set<Long> p_ids,
+            @RequestParam(value = "min_lat", required = false) Double minLat,
+            @RequestParam(value = "min_lon", required = false) Double minLon,
+            @RequestParam(value = "max_lat", required = false) Double maxLat,
+            @RequestParam(value = "max_lon", required = false) Double maxLon
+    ) {
+        return congestionStreamService.subscribe(p_ids, minLat, minLon, maxLat, maxLon);
+    }
+}
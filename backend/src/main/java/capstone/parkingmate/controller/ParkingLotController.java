@@ -1,10 +1,15 @@
 package capstone.parkingmate.controller;
 
 import capstone.parkingmate.dto.*;
+import capstone.parkingmate.service.CongestionHistoryService;
+import capstone.parkingmate.service.MarkerPayloadCache;
 import capstone.parkingmate.service.ParkingLotService;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -16,13 +21,80 @@ import java.util.List;
 public class ParkingLotController {
 
     private final ParkingLotService parkingLotService;
+    private final CongestionHistoryService congestionHistoryService;
+    private final MarkerPayloadCache markerPayloadCache;
 
-    // 주차장 마커
+    // 주차장 마커 (미리 직렬화된 본문, ETag 일치 시 304)
     @GetMapping()
-    public ResponseEntity<ResponseData<List<ParkingLotRetrieveDTO>>> retrieve() {
-        List<ParkingLotRetrieveDTO> parkingLots = parkingLotService.retrieve();
+    public ResponseEntity<byte[]> retrieve(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        MarkerPayloadCache.Payload payload = markerPayloadCache.get();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = gzip ? payload.getGzipEtag() : payload.getEtag();
+
+        if (payload.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .cacheControl(CacheControl.noCache());
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.getGzip());
+        }
+        return response.body(payload.getJson());
+    }
+
+    // Accept-Encoding 의 q 값까지 본다. gzip;q=0 이면 거부, gzip 이 없으면 * 의 q 값을 따른다
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQ = null;
+        Double anyQ = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String coding = params[0].trim().toLowerCase();
+            double q = 1.0;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.length() > 2 && param.substring(0, 2).equalsIgnoreCase("q=")) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0.0;   // 잘못된 q 값은 허용하지 않은 것으로 본다
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQ = gzipQ == null ? q : Math.max(gzipQ, q);
+            } else if (coding.equals("*")) {
+                anyQ = q;
+            }
+        }
+        if (gzipQ != null) {
+            return gzipQ > 0;
+        }
+        return anyQ != null && anyQ > 0;
+    }
+
+    // 지도 뷰포트 마커 (확대 수준이 낮으면 클러스터)
+    @GetMapping("/markers")
+    public ResponseEntity<ResponseData<List<MarkerResponseDTO>>> markers(
+            @RequestParam("minLat") double minLat, @RequestParam("minLon") double minLon,
+            @RequestParam("maxLat") double maxLat, @RequestParam("maxLon") double maxLon,
+            @RequestParam("zoom") int zoom) {
+
+        List<MarkerResponseDTO> markers = parkingLotService.markers(minLat, minLon, maxLat, maxLon, zoom);
 
-        return ResponseEntity.ok(ResponseData.res(HttpStatus.OK, "주차장 조회 성공", parkingLots));
+        return ResponseEntity.ok(ResponseData.res(HttpStatus.OK, "지도 마커 조회 성공", markers));
     }
 
     // 전체 주차장 점수 계산
@@ -73,6 +145,17 @@ public class ParkingLotController {
 
         return ResponseEntity.ok(ResponseData.res(HttpStatus.OK, "주차장 상세정보 조회 성공", responseDTO));
     }
+
+
+    // 주차장 혼잡도 추이 조회
+    @GetMapping("/{p_id}/congestion-history")
+    public ResponseEntity<ResponseData<CongestionHistoryResponseDTO>> congestion_history(
+            @PathVariable("p_id") Long p_id, @RequestParam(value = "points", defaultValue = "96") int points) {
+
+        CongestionHistoryResponseDTO responseDTO = congestionHistoryService.history(p_id, points);
+
+        return ResponseEntity.ok(ResponseData.res(HttpStatus.OK, "주차장 혼잡도 추이 조회 성공", responseDTO));
+    }
     
     
     // 주차장 검색
@@ -0,0 +1,33 @@
+package capstone.parkingmate.dto;
+
+import capstone.parkingmate.entity.ParkingLot;
+import lombok.Builder;
+import lombok.Getter;
+
+// 카탈로그에 담기는 주차장 정보 (불변, 엔티티와 달리 지연 로딩 없음)
+@Getter
+@Builder(toBuilder = true)
+public class CatalogLot {
+    private final Long p_id;
+    private final String name;
+    private final String address;
+    private final double latitude;
+    private final double longitude;
+    private final Integer fee;
+    private final Integer extraFee;
+    private final double avgScore;   // 평균 평점 (평점이 없으면 0)
+
+    // 평균 평점까지 읽으므로 avgRating 을 함께 조회한 엔티티로 만든다
+    public static CatalogLot from(ParkingLot lot) {
+        return CatalogLot.builder()
+                .p_id(lot.getP_id())
+                .name(lot.getName())
+                .address(lot.getAddress())
+                .latitude(lot.getLatitude())
+                .longitude(lot.getLongitude())
+                .fee(lot.getFee())
+                .extraFee(lot.getExtraFee())
+                .avgScore(lot.getAvgRating() != null ? lot.getAvgRating().getAvg_score() : 0.0)
+                .build();
+    }
+}
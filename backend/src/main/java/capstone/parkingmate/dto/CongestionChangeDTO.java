@@ -0,0 +1,13 @@
+package capstone.parkingmate.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CongestionChangeDTO {
+    private Long p_id;
+    private int current_vehicles;   // 현재 주차 차량 수
+    private int total_spaces;       // 총 주차면 수
+    private long version;           // 변경이 반영된 스냅샷 버전
+}
@@ -0,0 +1,14 @@
+package capstone.parkingmate.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class CongestionHistoryResponseDTO {
+    private Long p_id;
+    private long interval_ms;   // 구간 하나의 길이
+    private List<CongestionSampleDTO> samples;
+}
@@ -0,0 +1,17 @@
+package capstone.parkingmate.dto;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// AI 워커에 보내는 혼잡도 예측 질의 한 건
+// 결과는 lot(p_id)으로 돌려받고, name은 파이썬 쪽 데이터 조회에만 쓰인다.
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class CongestionQuery {
+    private final long lot;
+    private final String name;
+    private final int weekday;
+    private final int hour;
+}
@@ -0,0 +1,13 @@
+package capstone.parkingmate.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CongestionSampleDTO {
+    private long timestamp;            // 구간 시작 시각 (epoch millis)
+    private double current_vehicles;   // 구간 평균 주차 대수
+    private double total_spaces;       // 구간 평균 총 주차면수
+    private double congestion;         // 구간 평균 혼잡도 (0~1)
+}
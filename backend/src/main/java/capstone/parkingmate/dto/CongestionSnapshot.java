@@ -0,0 +1,38 @@
+package capstone.parkingmate.dto;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+// 실시간 혼잡도 스냅샷. p_id 기준으로 정리된 불변 객체이며 통째로 교체된다.
+@Getter
+public class CongestionSnapshot {
+
+    public static final CongestionSnapshot EMPTY = new CongestionSnapshot(0L, Instant.EPOCH, Map.of());
+
+    private final long version;        // 갱신될 때마다 1씩 증가
+    private final Instant fetchedAt;   // 외부 API 수집 완료 시각
+    private final Map<Long, CongestionDTO> byPid;
+
+    public CongestionSnapshot(long version, Instant fetchedAt, Map<Long, CongestionDTO> byPid) {
+        this.version = version;
+        this.fetchedAt = fetchedAt;
+        this.byPid = Map.copyOf(byPid);
+    }
+
+    // 주차장 p_id로 실시간 혼잡도 조회 (없으면 null)
+    public CongestionDTO get(Long p_id) {
+        return p_id == null ? null : byPid.get(p_id);
+    }
+
+    public boolean isEmpty() {
+        return byPid.isEmpty();
+    }
+
+    // 수집 시각 기준 경과 시간
+    public Duration age(Instant now) {
+        return Duration.between(fetchedAt, now);
+    }
+}
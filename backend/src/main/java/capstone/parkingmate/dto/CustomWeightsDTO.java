@@ -0,0 +1,16 @@
+package capstone.parkingmate.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 사용자 지정 추천 가중치 (혼잡도, 거리, 요금, 리뷰). 합이 1이 되도록 정규화해 저장
+@Getter
+@Setter
+@NoArgsConstructor
+public class CustomWeightsDTO {
+    private Double congestion;
+    private Double distance;
+    private Double fee;
+    private Double rating;
+}
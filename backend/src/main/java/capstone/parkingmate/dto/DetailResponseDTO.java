@@ -1,5 +1,6 @@
 package capstone.parkingmate.dto;
 
+import capstone.parkingmate.enums.CongestionSource;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -18,4 +19,5 @@ public class DetailResponseDTO {
 
     private Integer total_spaces;        // 총 주차면 수
     private Integer current_vehicles;    // 현재 주차 차량 수
+    private CongestionSource congestion_source; // 혼잡도 출처 (LIVE/STALE/PREDICTED)
 }
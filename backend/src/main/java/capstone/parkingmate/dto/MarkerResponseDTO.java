@@ -0,0 +1,24 @@
+package capstone.parkingmate.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 지도 마커. 확대 수준에 따라 주차장 하나(LOT) 또는 여러 주차장을 묶은 클러스터(CLUSTER)
+@Getter
+@Builder
+public class MarkerResponseDTO {
+
+    public enum Type { LOT, CLUSTER }
+
+    private Type type;
+
+    private Long p_id;      // LOT 일 때만
+    private String name;    // LOT 일 때만
+
+    private double latitude;    // 클러스터는 소속 주차장의 중심
+    private double longitude;
+
+    private int count;          // 소속 주차장 수 (LOT 은 1)
+
+    private Double availability; // 평균 가용률(%, 빈 자리 비율). 실시간 값이 없으면 null
+}
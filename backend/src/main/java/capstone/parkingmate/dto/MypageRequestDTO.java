@@ -1,9 +1,24 @@
 package capstone.parkingmate.dto;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
 @Getter
 public class MypageRequestDTO {
     private String nickname;
     private String preferred_factor;
+    // 키가 없으면 기존 가중치 유지, null 이면 해제해 preferred_factor 기본 가중치 사용
+    private CustomWeightsDTO custom_weights;
+    @Getter(AccessLevel.NONE)
+    private boolean customWeightsPresent;   // 요청 필드로 노출하지 않는다
+
+    // 요청 본문에 custom_weights 키가 있을 때만 호출된다 (값이 null 이어도)
+    public void setCustom_weights(CustomWeightsDTO custom_weights) {
+        this.custom_weights = custom_weights;
+        this.customWeightsPresent = true;
+    }
+
+    public boolean hasCustomWeights() {
+        return customWeightsPresent;
+    }
 }
@@ -12,4 +12,5 @@ public class MypageResponseDTO {
     private String email;
     private String nickname;
     private String preferred_factor;
+    private CustomWeightsDTO custom_weights;
 }
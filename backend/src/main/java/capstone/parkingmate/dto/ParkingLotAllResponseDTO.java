@@ -1,5 +1,6 @@
 package capstone.parkingmate.dto;
 
+import capstone.parkingmate.enums.CongestionSource;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -13,4 +14,6 @@ public class ParkingLotAllResponseDTO {
     private double score;
     private double latitude;
     private double longitude;
+    private CongestionSource congestionSource; // 혼잡도 출처 (LIVE/STALE/PREDICTED)
+    private boolean fallback; // AI 예측 시간 초과로 대체 순위(거리 + 실시간 가용도 + 평점)를 사용했는지 여부
 }
@@ -0,0 +1,148 @@
+package capstone.parkingmate.dto;
+
+import capstone.parkingmate.util.SpatialIndex;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 주차장 카탈로그 스냅샷. p_id·이름·위치로 조회할 수 있는 불변 객체이며 변경 시 통째로 교체된다.
+// version 은 변경될 때마다 1씩 증가하므로 하위 캐시의 키로 쓸 수 있다.
+public class ParkingLotCatalog {
+
+    public static final ParkingLotCatalog EMPTY = new ParkingLotCatalog(0L, List.of(), null);
+
+    @Getter
+    private final long version;
+    @Getter
+    private final List<CatalogLot> lots;   // p_id 오름차순
+    private final Map<Long, CatalogLot> byId;
+    private final Map<String, CatalogLot> byName;
+    private final SpatialIndex spatial;
+
+    // spatial 이 null 이면 lots 로 새로 만든다
+    private ParkingLotCatalog(long version, List<CatalogLot> lots, SpatialIndex spatial) {
+        List<CatalogLot> sorted = new ArrayList<>(lots);
+        sorted.sort(Comparator.comparing(CatalogLot::getP_id));
+
+        Map<Long, CatalogLot> ids = new HashMap<>(sorted.size() * 2);
+        Map<String, CatalogLot> names = new HashMap<>(sorted.size() * 2);
+        for (CatalogLot lot : sorted) {
+            ids.put(lot.getP_id(), lot);
+            names.putIfAbsent(lot.getName().trim(), lot);
+        }
+
+        this.version = version;
+        this.lots = List.copyOf(sorted);
+        this.byId = Map.copyOf(ids);
+        this.byName = Map.copyOf(names);
+        this.spatial = spatial != null ? spatial : buildSpatial(this.lots);
+    }
+
+    public static ParkingLotCatalog of(long version, List<CatalogLot> lots) {
+        return new ParkingLotCatalog(version, lots, null);
+    }
+
+    // 주차장 하나를 추가하거나 교체한 새 스냅샷. 위치가 같으면 공간 인덱스를 재사용한다.
+    public ParkingLotCatalog with(long nextVersion, CatalogLot lot) {
+        CatalogLot before = byId.get(lot.getP_id());
+        boolean moved = before == null
+                || before.getLatitude() != lot.getLatitude() || before.getLongitude() != lot.getLongitude();
+
+        List<CatalogLot> next = new ArrayList<>(lots.size() + 1);
+        for (CatalogLot l : lots) {
+            if (!l.getP_id().equals(lot.getP_id())) {
+                next.add(l);
+            }
+        }
+        next.add(lot);
+        return new ParkingLotCatalog(nextVersion, next, moved ? null : spatial);
+    }
+
+    // 주차장 하나를 뺀 새 스냅샷
+    public ParkingLotCatalog without(long nextVersion, Long p_id) {
+        List<CatalogLot> next = new ArrayList<>(lots.size());
+        for (CatalogLot l : lots) {
+            if (!l.getP_id().equals(p_id)) {
+                next.add(l);
+            }
+        }
+        return new ParkingLotCatalog(nextVersion, next, null);
+    }
+
+    // p_id 로 조회 (없으면 null)
+    public CatalogLot get(Long p_id) {
+        return p_id == null ? null : byId.get(p_id);
+    }
+
+    // 주차장명(앞뒤 공백 제외)으로 조회 (없으면 null)
+    public CatalogLot findByName(String name) {
+        return name == null ? null : byName.get(name.trim());
+    }
+
+    public int size() {
+        return lots.size();
+    }
+
+    // 가까운 순서로 최대 k개
+    public List<CatalogLot> nearest(double lat, double lon, int k) {
+        return resolve(spatial.nearest(lat, lon, k));
+    }
+
+    // 반경(m) 안의 주차장 (순서 없음)
+    public List<CatalogLot> withinRadius(double lat, double lon, double radiusMeters) {
+        return resolve(spatial.withinRadius(lat, lon, radiusMeters));
+    }
+
+    // 위경도 사각형 안의 주차장
+    public List<CatalogLot> withinBox(double minLat, double minLon, double maxLat, double maxLon) {
+        List<CatalogLot> result = new ArrayList<>();
+        for (CatalogLot lot : lots) {
+            if (lot.getLatitude() >= minLat && lot.getLatitude() <= maxLat
+                    && lot.getLongitude() >= minLon && lot.getLongitude() <= maxLon) {
+                result.add(lot);
+            }
+        }
+        return result;
+    }
+
+    // 이름 또는 주소에 키워드가 포함된 주차장 (대소문자 무시, DB LIKE 검색과 같은 동작)
+    public List<CatalogLot> search(String keyword) {
+        String k = keyword == null ? "" : keyword.toLowerCase();
+        List<CatalogLot> result = new ArrayList<>();
+        for (CatalogLot lot : lots) {
+            if (lot.getName().toLowerCase().contains(k)
+                    || (lot.getAddress() != null && lot.getAddress().toLowerCase().contains(k))) {
+                result.add(lot);
+            }
+        }
+        return result;
+    }
+
+    private List<CatalogLot> resolve(List<Long> ids) {
+        List<CatalogLot> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            CatalogLot lot = byId.get(id);
+            if (lot != null) {
+                result.add(lot);
+            }
+        }
+        return result;
+    }
+
+    private static SpatialIndex buildSpatial(List<CatalogLot> lots) {
+        long[] ids = new long[lots.size()];
+        double[] lats = new double[lots.size()];
+        double[] lons = new double[lots.size()];
+        for (int i = 0; i < ids.length; i++) {
+            CatalogLot lot = lots.get(i);
+            ids[i] = lot.getP_id();
+            lats[i] = lot.getLatitude();
+            lons[i] = lot.getLongitude();
+        }
+        return SpatialIndex.build(ids, lats, lons);
+    }
+}
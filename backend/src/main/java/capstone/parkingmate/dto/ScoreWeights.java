@@ -0,0 +1,22 @@
+package capstone.parkingmate.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 추천 점수 가중치 (혼잡도, 거리, 요금, 리뷰)
+@Getter
+@RequiredArgsConstructor
+public class ScoreWeights {
+    private final double congestion;
+    private final double distance;
+    private final double fee;
+    private final double review;
+
+    // "혼잡도,거리,요금,리뷰" 순서의 배열로 생성
+    public static ScoreWeights of(double[] values) {
+        if (values == null || values.length != 4) {
+            throw new IllegalArgumentException("가중치는 혼잡도,거리,요금,리뷰 4개 값이어야 합니다.");
+        }
+        return new ScoreWeights(values[0], values[1], values[2], values[3]);
+    }
+}
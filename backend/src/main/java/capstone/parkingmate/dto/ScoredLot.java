@@ -0,0 +1,26 @@
+package capstone.parkingmate.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 주차장 하나의 항목별 점수 (각 0~100)
+@Getter
+@Builder
+public class ScoredLot {
+    private final CatalogLot lot;
+    private final double distance;         // 기준 위치와의 거리 (km)
+    private final double congestionScore;  // 가용도 = 100 - 혼잡도(%)
+    private final double distanceScore;    // 후보 내 min-max 정규화 (가까울수록 높음)
+    private final double feeScore;         // 후보 내 min-max 정규화 (저렴할수록 높음)
+    private final double reviewScore;      // 평균 평점 0~5 → 0~100
+    private final boolean fallback;        // AI 예측 없이 실시간 값만으로 계산한 결과
+
+    // 가중합 (소수점 둘째 자리 반올림)
+    public double score(ScoreWeights w) {
+        double sc = w.getCongestion() * congestionScore
+                + w.getDistance() * distanceScore
+                + w.getFee() * feeScore
+                + w.getReview() * reviewScore;
+        return Math.round(sc * 100.0) / 100.0;
+    }
+}
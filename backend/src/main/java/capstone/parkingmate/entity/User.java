@@ -36,6 +36,19 @@ public class User {
     @Enumerated(EnumType.STRING)
     private PreferredFactor preferred_factor;
 
+    // 사용자 지정 추천 가중치. 네 값이 모두 있으면 preferred_factor 대신 사용
+    @Column(name = "weight_congestion")
+    private Double weightCongestion;
+
+    @Column(name = "weight_distance")
+    private Double weightDistance;
+
+    @Column(name = "weight_fee")
+    private Double weightFee;
+
+    @Column(name = "weight_rating")
+    private Double weightRating;
+
     // 사용자 계정 생성일
     private LocalDateTime created_at = LocalDateTime.now();
     
@@ -0,0 +1,7 @@
+package capstone.parkingmate.enums;
+
+// 혼잡도 값의 출처
+// LIVE: 최신 실시간 스냅샷, STALE: 허용 범위 내의 지난 스냅샷, PREDICTED: AI 예측값
+public enum CongestionSource {
+    LIVE, STALE, PREDICTED
+}
@@ -0,0 +1,17 @@
+package capstone.parkingmate.event;
+
+import capstone.parkingmate.dto.CongestionDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+// 혼잡도 원천 데이터를 수집한 직후 발행되는 이벤트 (녹화용)
+// rows 는 p_id 매핑 전 원본 행이며, 매핑되지 않은 행(p_id == null)도 포함한다.
+@Getter
+@RequiredArgsConstructor
+public class CongestionFeedFetchedEvent {
+    private final Instant fetchedAt;
+    private final List<CongestionDTO> rows;
+}
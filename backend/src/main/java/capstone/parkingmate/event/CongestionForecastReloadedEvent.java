@@ -0,0 +1,11 @@
+package capstone.parkingmate.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 혼잡도 예측표 파일을 새로 읽어 교체했을 때 발행되는 이벤트
+@Getter
+@RequiredArgsConstructor
+public class CongestionForecastReloadedEvent {
+    private final int lotCount;
+}
@@ -0,0 +1,13 @@
+package capstone.parkingmate.event;
+
+import capstone.parkingmate.dto.CongestionSnapshot;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 혼잡도 스냅샷이 교체될 때 발행되는 이벤트
+@Getter
+@RequiredArgsConstructor
+public class CongestionSnapshotUpdatedEvent {
+    private final CongestionSnapshot previous;
+    private final CongestionSnapshot current;
+}
@@ -0,0 +1,11 @@
+package capstone.parkingmate.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 총 주차면수 보정표를 파일에서 다시 읽어 교체했을 때 발행되는 이벤트
+@Getter
+@RequiredArgsConstructor
+public class ParkingCapacityReloadedEvent {
+    private final int entries;   // p_id 로 연결된 주차장 수
+}
@@ -0,0 +1,15 @@
+package capstone.parkingmate.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 관리자가 주차장 정보를 등록/수정/삭제했을 때 발행되는 이벤트
+@Getter
+@RequiredArgsConstructor
+public class ParkingLotCatalogChangedEvent {
+
+    public enum Type { REGISTERED, UPDATED, DELETED }
+
+    private final Type type;
+    private final Long p_id;
+}
@@ -0,0 +1,16 @@
+package capstone.parkingmate.event;
+
+import capstone.parkingmate.dto.ParkingLotCatalog;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 주차장 카탈로그 스냅샷이 교체될 때 발행되는 이벤트
+// p_id 가 null 이면 전체를 다시 읽은 경우이고, ratingOnly 면 평균 평점만 바뀐 경우다.
+@Getter
+@RequiredArgsConstructor
+public class ParkingLotCatalogUpdatedEvent {
+    private final ParkingLotCatalog previous;
+    private final ParkingLotCatalog current;
+    private final Long p_id;
+    private final boolean ratingOnly;
+}
@@ -0,0 +1,13 @@
+package capstone.parkingmate.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 평점 등록/수정/삭제로 주차장 평균 평점이 바뀌었을 때 발행되는 이벤트
+@Getter
+@RequiredArgsConstructor
+public class ParkingLotRatingChangedEvent {
+
+    private final Long p_id;
+    private final double avg_score;
+}
@@ -1,6 +1,7 @@
 package capstone.parkingmate.exception;
 
 import capstone.parkingmate.dto.ResponseData;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -14,4 +15,12 @@ public class GlobalExceptionHandler {
                 .status(ex.getStatus())
                 .body(ResponseData.res(ex.getStatus() , ex.getMessage()));
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ResponseData<?>> handleServiceBusyException(ServiceBusyException ex) {
+        return ResponseEntity
+                .status(ex.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ResponseData.res(ex.getStatus() , ex.getMessage()));
+    }
+}
@@ -0,0 +1,16 @@
+package capstone.parkingmate.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+// 요청이 몰려 처리할 수 없을 때 (503 + Retry-After)
+@Getter
+public class ServiceBusyException extends CustomException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message, HttpStatus.SERVICE_UNAVAILABLE);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,42 @@
+package capstone.parkingmate.handler;
+
+import capstone.parkingmate.exception.ServiceBusyException;
+import capstone.parkingmate.util.Bulkhead;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// 점수 계산 경로 앞단의 동시 실행 제한
+// 포화 상태면 컨트롤러까지 가지 않고 503 + Retry-After 로 바로 거절한다.
+@Slf4j
+public class ScoringBulkheadInterceptor implements HandlerInterceptor {
+
+    private final Bulkhead bulkhead;
+    private final long retryAfterSeconds;
+    private final String acquiredAttribute; // 권한을 얻은 요청 표시 (afterCompletion 에서 반납)
+
+    public ScoringBulkheadInterceptor(Bulkhead bulkhead, long retryAfterSeconds) {
+        this.bulkhead = bulkhead;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.acquiredAttribute = ScoringBulkheadInterceptor.class.getName() + "." + bulkhead.getName();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!bulkhead.tryAcquire()) {
+            log.warn("503 : 요청 과다, {} 거절 ({})", request.getRequestURI(), bulkhead.getName());
+            throw new ServiceBusyException("요청이 많아 잠시 후 다시 시도해 주세요.", retryAfterSeconds);
+        }
+        request.setAttribute(acquiredAttribute, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(acquiredAttribute) != null) {
+            request.removeAttribute(acquiredAttribute);
+            bulkhead.release();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,6 +14,13 @@ public interface ParkingLotRepository extends JpaRepository<ParkingLot, Long> {
 
     ParkingLot findByName(String name);
 
+    // 평균 평점을 함께 조회 (주차장마다 평균 평점을 따로 읽는 N+1 방지)
+    @Query("SELECT p FROM ParkingLot p LEFT JOIN FETCH p.avgRating")
+    List<ParkingLot> findAllWithAvgRating();
+
+    @Query("SELECT p FROM ParkingLot p LEFT JOIN FETCH p.avgRating WHERE p.p_id IN :ids")
+    List<ParkingLot> findAllWithAvgRatingByIdIn(@Param("ids") Collection<Long> ids);
+
     // 쿼리문 개선하기!!
     @Query(
             value = "SELECT * FROM parking_lot WHERE name LIKE %:keyword% OR address LIKE %:keyword%",
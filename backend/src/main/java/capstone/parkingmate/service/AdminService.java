@@ -4,16 +4,19 @@ import capstone.parkingmate.dto.*;
 import capstone.parkingmate.entity.ParkingLot;
 import capstone.parkingmate.entity.Rating;
 import capstone.parkingmate.entity.User;
+import capstone.parkingmate.event.ParkingLotCatalogChangedEvent;
 import capstone.parkingmate.exception.CustomException;
 import capstone.parkingmate.repository.ParkingLotRepository;
 import capstone.parkingmate.repository.RatingRepository;
 import capstone.parkingmate.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -25,6 +28,9 @@ public class AdminService {
     private final UserRepository userRepository;
     private final ParkingLotRepository parkingLotRepository;
     private final RatingRepository ratingRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ParkingLotCatalogService parkingLotCatalogService;
+    private final ParkingCapacityService parkingCapacityService;
 
     // 사용자 리스트 조회
     public List<UsersResponseDTO> retrieve_users() {
@@ -85,12 +91,12 @@ public class AdminService {
 
     // 주차장 리스트 조회
     public List<ParkingLotResponseDTO> retrieve_parkingLots() {
-        List<ParkingLot> datas = parkingLotRepository.findAll();
+        List<CatalogLot> datas = parkingLotCatalogService.getCatalog().getLots();
 
         List<ParkingLotResponseDTO> responseDTOS = new ArrayList<>();
 
         // 스트림 사용으로 변경하기
-        for(ParkingLot data : datas) {
+        for(CatalogLot data : datas) {
             ParkingLotResponseDTO responseDTO = new ParkingLotResponseDTO();
 
             responseDTO.setP_id(data.getP_id());
@@ -102,11 +108,7 @@ public class AdminService {
 
             responseDTO.setExtraFee(data.getExtraFee());
 
-            if(data.getAvgRating() == null) {
-                responseDTO.setAvg_rating(0.0);
-            } else {
-                responseDTO.setAvg_rating(data.getAvgRating().getAvg_score());
-            }
+            responseDTO.setAvg_rating(data.getAvgScore());
 
             responseDTOS.add(responseDTO);
         }
@@ -143,6 +145,7 @@ public class AdminService {
 
         // 사용자 디비 저장
         parkingLotRepository.save(parkingLot);
+        eventPublisher.publishEvent(new ParkingLotCatalogChangedEvent(ParkingLotCatalogChangedEvent.Type.REGISTERED, parkingLot.getP_id()));
 
         // 로깅
         log.info("201 : 정상 처리, {} 정보 등록 완료", requestDTO.getName());
@@ -168,6 +171,7 @@ public class AdminService {
         
         // 데이터 저장
         parkingLotRepository.save(data);
+        eventPublisher.publishEvent(new ParkingLotCatalogChangedEvent(ParkingLotCatalogChangedEvent.Type.UPDATED, data.getP_id()));
         
         // 로깅
         log.info("200 : 정상 처리, {} 정보 수정 완료", updateRequestDTO.getName());
@@ -180,6 +184,7 @@ public class AdminService {
                 .orElseThrow(() -> new CustomException("주차장을 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
 
         parkingLotRepository.delete(data);
+        eventPublisher.publishEvent(new ParkingLotCatalogChangedEvent(ParkingLotCatalogChangedEvent.Type.DELETED, data.getP_id()));
 
         // 로깅
         log.info("200 : 정상 처리, {} 정보 삭제 성공", data.getName());
@@ -189,7 +194,7 @@ public class AdminService {
     @Transactional(readOnly = true)
     public ResponseData<?> search_parkingLots(String keyword) {
         // 1. 주차장 목록 가져오기
-        List<ParkingLot> parkingLots = parkingLotRepository.findAll();
+        List<CatalogLot> parkingLots = parkingLotCatalogService.getCatalog().getLots();
 
         // 2. keyword로 필터링 (이름 + 주소 둘 다)
         List<ParkingLotResponseDTO> result = parkingLots.stream()
@@ -205,12 +210,8 @@ public class AdminService {
 
                     dto.setExtraFee(p.getExtraFee());
 
-                    // ⭐ avg_score는 ParkingLotAvgRating 엔티티에서 가져오기
-                    if (p.getAvgRating() != null) {
-                        dto.setAvg_rating(p.getAvgRating().getAvg_score());
-                    } else {
-                        dto.setAvg_rating(0.0); // 평균 평점 없으면 기본값 0.0
-                    }
+                    // ⭐ avg_score는 카탈로그에 함께 보관된 평균 평점 사용 (없으면 0.0)
+                    dto.setAvg_rating(p.getAvgScore());
 
                     return dto;
                 })
@@ -220,6 +221,23 @@ public class AdminService {
     }
 
 
+    // 총 주차면수 보정표 다시 읽기
+    public int reload_parkingCapacity() {
+        int entries;
+        try {
+            entries = parkingCapacityService.reload();
+        } catch (IOException | RuntimeException e) {
+            log.error("500 : 총 주차면수 보정표 재로드 실패, 기존 표 유지");
+            throw new CustomException("총 주차면수 보정표를 읽지 못했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        // 로깅
+        log.info("200 : 정상 처리, 총 주차면수 보정표 재로드 ({}건)", entries);
+
+        return entries;
+    }
+
+
     // 평점 리스트 조회
     public List<RatingResponseDTO> retrieve_ratings() {
         List<Rating> datas = ratingRepository.findAll();
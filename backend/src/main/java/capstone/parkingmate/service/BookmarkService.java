@@ -2,6 +2,8 @@ package capstone.parkingmate.service;
 
 import capstone.parkingmate.dto.BookmarkRequestDTO;
 import capstone.parkingmate.dto.BookmarkResponseDTO;
+import capstone.parkingmate.dto.CatalogLot;
+import capstone.parkingmate.dto.ParkingLotCatalog;
 import capstone.parkingmate.dto.ResponseData;
 import capstone.parkingmate.entity.Bookmark;
 import capstone.parkingmate.entity.ParkingLot;
@@ -19,6 +21,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 
 @Slf4j
 @Service
@@ -28,6 +31,7 @@ public class BookmarkService {
     private final BookmarkRepository bookmarkRepository;
     private final UserRepository userRepository;
     private final ParkingLotRepository parkingLotRepository;
+    private final ParkingLotCatalogService parkingLotCatalogService;
 
     // 북마크 조회
     @Transactional(readOnly = true)
@@ -46,24 +50,26 @@ public class BookmarkService {
         // 북마크 리스트 가져오기
         List<Bookmark> bookmarks = user.getBookmarks();
 
-        // 3. 엔티티 -> DTO 변환
+        // 3. 엔티티 -> DTO 변환 (주차장 정보는 카탈로그에서, 북마크 엔티티의 주차장은 id만 사용)
+        ParkingLotCatalog catalog = parkingLotCatalogService.getCatalog();
         List<BookmarkResponseDTO> bookmarkDTOs = bookmarks.stream()
                 .map(bookmark -> {
+                    CatalogLot lot = catalog.get(bookmark.getParkingLot().getP_id());
+                    if (lot == null) {
+                        return null;
+                    }
+
                     BookmarkResponseDTO dto = new BookmarkResponseDTO();
-                    dto.setP_id(bookmark.getParkingLot().getP_id());
-                    dto.setName(bookmark.getParkingLot().getName());
-                    dto.setAddress(bookmark.getParkingLot().getAddress());
-                    dto.setFee(bookmark.getParkingLot().getFee());
+                    dto.setP_id(lot.getP_id());
+                    dto.setName(lot.getName());
+                    dto.setAddress(lot.getAddress());
+                    dto.setFee(lot.getFee());
                     dto.setBookmarkId(bookmark.getBookmark_id());
-
-                    if(bookmark.getParkingLot().getAvgRating() == null) {
-                        dto.setAvg_rating(0.0);
-                    } else {
-                        dto.setAvg_rating(bookmark.getParkingLot().getAvgRating().getAvg_score());
-                    }
+                    dto.setAvg_rating(lot.getAvgScore());
 
                     return dto;
                 })
+                .filter(Objects::nonNull)
                 .toList();
 
         // 4. 응답 반환
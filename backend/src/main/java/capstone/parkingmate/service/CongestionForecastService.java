@@ -0,0 +1,117 @@
+package capstone.parkingmate.service;
+
+import capstone.parkingmate.dto.CongestionQuery;
+import capstone.parkingmate.util.AiModuleCaller;
+import capstone.parkingmate.util.CongestionForecastTable;
+import capstone.parkingmate.util.XgbCongestionPredictor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+// 실시간 값이 없는 주차장의 혼잡도 예측
+// 미리 계산된 예측표 → JVM 모델 → 파이썬 워커 순으로 사용한다.
+@Slf4j
+@Service
+public class CongestionForecastService {
+
+    private final CongestionForecastTable forecastTable;
+    private final XgbCongestionPredictor predictor;
+    private final AiModuleCaller aiModuleCaller;
+    private final long deadlineMs;
+
+    private final Counter timeouts;
+    private final Counter errors;
+
+    public CongestionForecastService(
+            CongestionForecastTable forecastTable,
+            XgbCongestionPredictor predictor,
+            AiModuleCaller aiModuleCaller,
+            MeterRegistry meterRegistry,
+            @Value("${ai.call.deadline-ms:1500}") long deadlineMs
+    ) {
+        this.forecastTable = forecastTable;
+        this.predictor = predictor;
+        this.aiModuleCaller = aiModuleCaller;
+        this.deadlineMs = deadlineMs;
+        this.timeouts = Counter.builder("ai.call.fallback")
+                .description("AI 예측 대신 대체 순위를 사용한 요청 수")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+        this.errors = Counter.builder("ai.call.fallback")
+                .description("AI 예측 대신 대체 순위를 사용한 요청 수")
+                .tag("reason", "error")
+                .register(meterRegistry);
+    }
+
+    // 예측 결과. fallback 이면 기한 내 예측을 받지 못해 values 가 비어 있다.
+    @Getter
+    @RequiredArgsConstructor
+    public static class Forecast {
+        private final Map<Long, Double> values;
+        private final boolean fallback;
+    }
+
+    // 요청 기한(ai.call.deadline-ms)까지만 기다린다. 시간 초과나 오류면 fallback 으로 표시
+    public Forecast forecast(Map<Long, String> lots, int weekday, int hour) {
+        try {
+            return new Forecast(forecastAsync(lots, weekday, hour).join(), false);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                timeouts.increment();
+                log.warn("AI 예측 시간 초과 ({}ms), 대체 순위 사용", deadlineMs);
+            } else {
+                errors.increment();
+                log.warn("AI 예측 실패, 대체 순위 사용: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            }
+            return new Forecast(new HashMap<>(), true);
+        }
+    }
+
+    // lots는 p_id → 주차장명. 결과는 p_id → 예측 혼잡도(%, 0~100), 예측할 수 없는 주차장은 빠진다.
+    // 로컬 예측은 즉시 완료되고, 파이썬 워커 호출은 기한이 지나면 TimeoutException 으로 완료된다.
+    public CompletableFuture<Map<Long, Double>> forecastAsync(Map<Long, String> lots, int weekday, int hour) {
+        if (lots.isEmpty()) {
+            return CompletableFuture.completedFuture(new HashMap<>());
+        }
+
+        // 예측표 조회 (배열 인덱스 조회)
+        if (forecastTable.isReady()) {
+            Map<Long, Double> result = new HashMap<>();
+            lots.forEach((pid, name) -> {
+                double value = forecastTable.lookup(name, weekday, hour);
+                if (!Double.isNaN(value)) {
+                    result.put(pid, value);
+                }
+            });
+            return CompletableFuture.completedFuture(result);
+        }
+
+        if (predictor.isReady()) {
+            Map<Long, Double> result = new HashMap<>();
+            lots.forEach((pid, name) -> {
+                double value = predictor.predict(name, weekday, hour);
+                if (!Double.isNaN(value)) {
+                    result.put(pid, Math.max(0.0, Math.min(100.0, value)));
+                }
+            });
+            return CompletableFuture.completedFuture(result);
+        }
+
+        // ai 모듈 호출
+        List<CongestionQuery> queries = new ArrayList<>();
+        lots.forEach((pid, name) -> queries.add(new CongestionQuery(pid, name, weekday, hour)));
+        return aiModuleCaller.predictCongestionAsync(queries, deadlineMs);
+    }
+}
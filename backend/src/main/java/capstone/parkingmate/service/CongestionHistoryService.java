@@ -0,0 +1,100 @@
+package capstone.parkingmate.service;
+
+import capstone.parkingmate.dto.CongestionDTO;
+import capstone.parkingmate.dto.CongestionHistoryResponseDTO;
+import capstone.parkingmate.dto.CongestionSampleDTO;
+import capstone.parkingmate.dto.CongestionSnapshot;
+import capstone.parkingmate.dto.ParkingLotCatalog;
+import capstone.parkingmate.event.CongestionSnapshotUpdatedEvent;
+import capstone.parkingmate.event.ParkingLotCatalogUpdatedEvent;
+import capstone.parkingmate.util.CongestionHistoryBuffer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 스냅샷이 갱신될 때마다 주차장별 혼잡도를 원형 버퍼에 쌓아두고 추이를 조회하는 서비스 (DB 접근 없음)
+// 총 면수가 1로 들어오는 노상주차장은 기록할 때 보정표 값으로 바꿔 저장한다.
+@Service
+public class CongestionHistoryService {
+
+    private final ParkingCapacityService parkingCapacityService;
+
+    private final long resolutionMs;   // 슬롯 하나의 길이
+    private final int windowSlots;     // 보관할 슬롯 개수
+
+    private final Map<Long, CongestionHistoryBuffer> buffers = new ConcurrentHashMap<>();
+
+    public CongestionHistoryService(
+            ParkingCapacityService parkingCapacityService,
+            @Value("${congestion.history.resolution-ms:60000}") long resolutionMs,
+            @Value("${congestion.history.window-minutes:1440}") long windowMinutes
+    ) {
+        this.parkingCapacityService = parkingCapacityService;
+        this.resolutionMs = resolutionMs;
+        this.windowSlots = (int) Math.max(1, windowMinutes * 60_000L / resolutionMs);
+    }
+
+    @EventListener
+    public void onSnapshotUpdated(CongestionSnapshotUpdatedEvent event) {
+        CongestionSnapshot snapshot = event.getCurrent();
+        long slot = snapshot.getFetchedAt().toEpochMilli() / resolutionMs;
+
+        for (CongestionDTO dto : snapshot.getByPid().values()) {
+            int total = dto.getTotal_spaces();
+            if (total == 1) {
+                total = parkingCapacityService.capacityOf(dto.getP_id(), total);
+            }
+            buffers.computeIfAbsent(dto.getP_id(), pid -> new CongestionHistoryBuffer(windowSlots))
+                    .record(slot, dto.getCurrent_vehicles(), total);
+        }
+    }
+
+    // 삭제된 주차장의 버퍼 정리
+    @EventListener
+    public void onCatalogUpdated(ParkingLotCatalogUpdatedEvent event) {
+        if (event.isRatingOnly()) {
+            return;
+        }
+        ParkingLotCatalog catalog = event.getCurrent();
+        if (event.getP_id() != null) {
+            if (catalog.get(event.getP_id()) == null) {
+                buffers.remove(event.getP_id());
+            }
+            return;
+        }
+        buffers.keySet().removeIf(p_id -> catalog.get(p_id) == null);
+    }
+
+    // 최근 보관 구간을 points 개로 다운샘플링한 추이
+    public CongestionHistoryResponseDTO history(Long p_id, int points) {
+        int buckets = Math.max(1, Math.min(points, windowSlots));
+        long intervalMs = (long) Math.ceil((double) windowSlots / buckets) * resolutionMs;
+
+        List<CongestionSampleDTO> samples = new ArrayList<>();
+        CongestionHistoryBuffer buffer = buffers.get(p_id);
+        if (buffer != null) {
+            long latestSlot = System.currentTimeMillis() / resolutionMs;
+            for (double[] row : buffer.downsample(latestSlot, buckets)) {
+                double current = row[1];
+                double total = row[2];
+                samples.add(CongestionSampleDTO.builder()
+                        .timestamp((long) row[0] * resolutionMs)
+                        .current_vehicles(current)
+                        .total_spaces(total)
+                        .congestion(total > 0 ? Math.min(1.0, current / total) : 0.0)
+                        .build());
+            }
+        }
+
+        return CongestionHistoryResponseDTO.builder()
+                .p_id(p_id)
+                .interval_ms(intervalMs)
+                .samples(samples)
+                .build();
+    }
+}
@@ -0,0 +1,166 @@
+package capstone.parkingmate.service;
+
+import capstone.parkingmate.dto.CatalogLot;
+import capstone.parkingmate.event.ParkingLotCatalogUpdatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 실시간 API 주차장명 → p_id 매핑 사전
+// 예외 규칙과 주차장 카탈로그로 한 번 만들어두고, 관리자가 주차장을 변경할 때만 다시 만든다.
+@Slf4j
+@Service
+public class CongestionNameDictionary {
+
+    // API 이름과 DB 이름이 규칙으로 맞지 않는 주차장
+    private static final Map<String, String> SPECIAL_CASES = Map.of(
+            "마포유수지(시)", "마포유수지",
+            "명일파출소 공영주차장(시)", "명일동",
+            "적선동 주차장(시)", "적선동",
+            "반포천 공영주차장(파미에)(시)", "파미에(반포천)",
+            "종묘주차장 공영주차장(시)", "종묘"
+    );
+
+    private static final String PUBLIC_SUFFIX = " 공영주차장(시)";
+    // 시 운영 주차장 표시. 카탈로그(시설공단 공영주차장)는 API 에서 모두 이 표시가 붙어 나온다
+    private static final String CITY_MARK = "(시)";
+
+    private final ParkingLotCatalogService parkingLotCatalogService;
+
+    // 정확히 일치하는 이름 (DB 이름 + 예외 규칙 이름)
+    private volatile Map<String, Long> exact = Map.of();
+    // 정규화 키 → p_id (키가 겹치는 주차장은 제외)
+    private volatile Map<String, Long> canonical = Map.of();
+
+    // 규칙/학습으로 찾아낸 API 이름 → p_id
+    private final Map<String, Long> learned = new ConcurrentHashMap<>();
+    // 아직 매핑하지 못한 API 이름
+    private final Set<String> unmapped = ConcurrentHashMap.newKeySet();
+    // 그중 시 운영 주차장 이름. 민영·구 운영 주차장은 카탈로그에 없어 항상 실패하므로 지표에서 뺀다
+    private final Set<String> unmappedCityLots = ConcurrentHashMap.newKeySet();
+
+    private final Counter learnedCounter;
+
+    public CongestionNameDictionary(ParkingLotCatalogService parkingLotCatalogService, MeterRegistry meterRegistry) {
+        this.parkingLotCatalogService = parkingLotCatalogService;
+        Gauge.builder("congestion.name.unmapped", unmappedCityLots, Set::size)
+                .description("p_id로 매핑되지 않은 시 운영 주차장명 수")
+                .register(meterRegistry);
+        this.learnedCounter = Counter.builder("congestion.name.learned")
+                .description("정규화 비교로 학습한 주차장명 매핑 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        rebuild();
+    }
+
+    // 주차장 목록 변경 시 사전 재구성 (평균 평점만 바뀐 경우 제외)
+    @EventListener
+    public void onCatalogUpdated(ParkingLotCatalogUpdatedEvent event) {
+        if (!event.isRatingOnly()) {
+            rebuild();
+        }
+    }
+
+    public synchronized void rebuild() {
+        Map<String, Long> nextExact = new HashMap<>();
+        Map<String, Long> nextCanonical = new HashMap<>();
+        Set<String> ambiguous = new HashSet<>();
+
+        for (CatalogLot lot : parkingLotCatalogService.getCatalog().getLots()) {
+            String name = lot.getName().trim();
+            nextExact.putIfAbsent(name, lot.getP_id());
+
+            String key = canonicalize(name);
+            Long prev = nextCanonical.putIfAbsent(key, lot.getP_id());
+            if (prev != null && !prev.equals(lot.getP_id())) {
+                ambiguous.add(key);
+            }
+        }
+        ambiguous.forEach(nextCanonical::remove);
+
+        SPECIAL_CASES.forEach((apiName, localName) -> {
+            Long pid = nextExact.get(localName);
+            if (pid != null) {
+                nextExact.put(apiName, pid);
+            }
+        });
+
+        exact = Map.copyOf(nextExact);
+        canonical = Map.copyOf(nextCanonical);
+        learned.clear();
+        unmapped.clear();
+        unmappedCityLots.clear();
+
+        log.info("주차장명 매핑 사전 구성 완료 (이름={}, 정규화 키={})", exact.size(), canonical.size());
+    }
+
+    // API 주차장명 → p_id (없으면 null). 한 번 해석한 이름은 이후 O(1) 조회
+    public Long resolve(String apiName) {
+        String name = apiName.trim();
+
+        Long pid = exact.get(name);
+        if (pid != null) {
+            return pid;
+        }
+        pid = learned.get(name);
+        if (pid != null) {
+            return pid;
+        }
+
+        // 기본 규칙: "OOO 공영주차장(시)" → "OOO"
+        if (name.endsWith(PUBLIC_SUFFIX)) {
+            pid = exact.get(name.substring(0, name.length() - PUBLIC_SUFFIX.length()).trim());
+            if (pid != null) {
+                learned.put(name, pid);
+                return pid;
+            }
+        }
+
+        if (unmapped.add(name) && name.endsWith(CITY_MARK)) {
+            unmappedCityLots.add(name);
+        }
+        return null;
+    }
+
+    // 매핑 실패한 이름을 정규화 키로 다시 맞춰본다. 수집 주기마다 요청 경로 밖에서 실행
+    public void learnUnmapped() {
+        Map<String, Long> keys = canonical;
+        for (String name : unmapped) {
+            Long pid = keys.get(canonicalize(name));
+            if (pid != null) {
+                learned.put(name, pid);
+                unmapped.remove(name);
+                unmappedCityLots.remove(name);
+                learnedCounter.increment();
+                log.info("주차장명 매핑 학습: {} → p_id {}", name, pid);
+            }
+        }
+    }
+
+    // 카탈로그에 있어야 할 시 운영 주차장 중 매핑하지 못한 이름 수
+    public int unmappedCount() {
+        return unmappedCityLots.size();
+    }
+
+    // 비교용 정규화: 소문자, 공백/괄호/접미어 제거
+    private static String canonicalize(String name) {
+        return name.toLowerCase()
+                .replace("(시)", "")
+                .replace("공영주차장", "")
+                .replace("주차장", "")
+                .replaceAll("[\\s()\\[\\]·,.-]", "");
+    }
+}
@@ -0,0 +1,166 @@
+package capstone.parkingmate.service;
+
+import capstone.parkingmate.dto.CongestionDTO;
+import capstone.parkingmate.dto.CongestionSnapshot;
+import capstone.parkingmate.enums.CongestionSource;
+import capstone.parkingmate.event.CongestionFeedFetchedEvent;
+import capstone.parkingmate.event.CongestionSnapshotUpdatedEvent;
+import capstone.parkingmate.util.CircuitBreaker;
+import capstone.parkingmate.util.CongestionFeed;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 서울시 실시간 주차정보 API를 주기적으로 수집해 p_id 기준 스냅샷으로 보관하는 서비스
+// 요청 처리 경로에서는 I/O 없이 현재 스냅샷만 읽는다.
+@Slf4j
+@Service
+public class CongestionSnapshotService {
+
+    private final CongestionNameDictionary congestionNameDictionary;
+    private final CongestionFeed congestionFeed;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 이 시간 안의 스냅샷은 LIVE로 취급
+    private final Duration liveMaxAge;
+    // 스냅샷을 사용할 수 있는 최대 경과 시간. 넘으면 실시간 데이터 없음(PREDICTED)으로 취급
+    private final Duration maxStaleness;
+
+    // 외부 API 장애 시 호출을 잠시 멈추고 기존 스냅샷으로 응답
+    private final CircuitBreaker circuitBreaker;
+
+    // 녹화가 켜져 있으면 매핑 실패 행까지 받아 원본 그대로 CongestionFeedFetchedEvent 로 넘긴다
+    private final boolean recordRaw;
+
+    private final AtomicReference<CongestionSnapshot> current = new AtomicReference<>(CongestionSnapshot.EMPTY);
+
+    public CongestionSnapshotService(
+            CongestionNameDictionary congestionNameDictionary,
+            CongestionFeed congestionFeed,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${congestion.snapshot.live-max-age-ms:180000}") long liveMaxAgeMs,
+            @Value("${congestion.snapshot.max-staleness-ms:600000}") long maxStalenessMs,
+            @Value("${congestion.breaker.failure-threshold:3}") int failureThreshold,
+            @Value("${congestion.breaker.open-ms:60000}") long breakerOpenMs,
+            @Value("${congestion.recorder.enabled:false}") boolean recordRaw
+    ) {
+        this.congestionNameDictionary = congestionNameDictionary;
+        this.congestionFeed = congestionFeed;
+        this.eventPublisher = eventPublisher;
+        this.liveMaxAge = Duration.ofMillis(liveMaxAgeMs);
+        this.maxStaleness = Duration.ofMillis(maxStalenessMs);
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, breakerOpenMs);
+        this.recordRaw = recordRaw;
+
+        Gauge.builder("congestion.snapshot.age", current, ref -> ref.get().age(Instant.now()).toMillis() / 1000.0)
+                .description("현재 혼잡도 스냅샷 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("congestion.breaker.open", circuitBreaker, b -> b.getState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .description("혼잡도 API 차단기 상태 (1: 차단)")
+                .register(meterRegistry);
+    }
+
+    // 주기적 갱신. 이전 수집이 끝난 시점부터 refresh-interval 뒤에 다시 실행된다.
+    @Scheduled(
+            initialDelayString = "${congestion.snapshot.initial-delay-ms:0}",
+            fixedDelayString = "${congestion.snapshot.refresh-interval-ms:60000}"
+    )
+    public void refresh() {
+        // 차단기가 열려 있으면 외부 API 호출 없이 기존 스냅샷 유지
+        if (!circuitBreaker.allowRequest()) {
+            log.debug("혼잡도 API 차단 중, 기존 스냅샷 유지 (version={})", current.get().getVersion());
+            return;
+        }
+
+        // 매핑되지 않는 행은 파싱 단계에서 버린다 (녹화 중이면 남겨둔다)
+        AtomicInteger unmapped = new AtomicInteger();
+        List<CongestionDTO> rows;
+        try {
+            rows = congestionFeed.fetchAll(name -> {
+                Long pid = congestionNameDictionary.resolve(name);
+                if (pid == null) {
+                    unmapped.incrementAndGet();
+                }
+                return pid;
+            }, recordRaw);
+        } catch (IOException | RuntimeException e) {
+            // 파싱 중 런타임 예외도 수집 실패로 집계해야 차단기가 열린다
+            circuitBreaker.recordFailure();
+            log.error("혼잡도 수집 실패, 기존 스냅샷 유지 (version={}, 차단기={}): {}",
+                    current.get().getVersion(), circuitBreaker.getState(), e.getMessage());
+            return;
+        }
+
+        Instant fetchedAt = Instant.now();
+        if (recordRaw) {
+            eventPublisher.publishEvent(new CongestionFeedFetchedEvent(fetchedAt, rows));
+        }
+
+        // 매핑 실패 이름은 다음 주기를 위해 정규화 비교로 학습
+        congestionNameDictionary.learnUnmapped();
+
+        Map<Long, CongestionDTO> byPid = new HashMap<>();
+        for (CongestionDTO row : rows) {
+            if (row.getP_id() != null) {
+                byPid.putIfAbsent(row.getP_id(), row);
+            }
+        }
+
+        // 수집 결과가 비어 있으면(오류 응답 등) 실패로 집계하고 기존 스냅샷 유지
+        if (byPid.isEmpty()) {
+            circuitBreaker.recordFailure();
+            log.warn("혼잡도 수집 결과 없음, 기존 스냅샷 유지 (version={}, 차단기={})",
+                    current.get().getVersion(), circuitBreaker.getState());
+            return;
+        }
+        circuitBreaker.recordSuccess();
+
+        CongestionSnapshot previous = current.get();
+        CongestionSnapshot next = new CongestionSnapshot(previous.getVersion() + 1, fetchedAt, byPid);
+        current.set(next);
+        eventPublisher.publishEvent(new CongestionSnapshotUpdatedEvent(previous, next));
+
+        log.info("혼잡도 스냅샷 갱신 완료 (version={}, 매핑={}, 매핑 실패={})", next.getVersion(), byPid.size(), unmapped.get());
+    }
+
+    // 최신 스냅샷 (경과 시간과 무관)
+    public CongestionSnapshot getSnapshot() {
+        return current.get();
+    }
+
+    // 요청 처리용 스냅샷. 허용 경과 시간을 넘으면 빈 스냅샷을 돌려준다.
+    public CongestionSnapshot getFreshSnapshot() {
+        CongestionSnapshot snapshot = current.get();
+        return isStale(snapshot) ? CongestionSnapshot.EMPTY : snapshot;
+    }
+
+    // 허용 경과 시간을 넘은 스냅샷인지 (빈 스냅샷은 해당 없음)
+    public boolean isStale(CongestionSnapshot snapshot) {
+        return !snapshot.isEmpty() && snapshot.age(Instant.now()).compareTo(maxStaleness) > 0;
+    }
+
+    // 스냅샷에서 해당 주차장 혼잡도의 출처 판단
+    public CongestionSource sourceOf(CongestionSnapshot snapshot, Long p_id) {
+        if (snapshot.get(p_id) == null) {
+            return CongestionSource.PREDICTED;
+        }
+        return snapshot.age(Instant.now()).compareTo(liveMaxAge) <= 0
+                ? CongestionSource.LIVE
+                : CongestionSource.STALE;
+    }
+}
@@ -0,0 +1,187 @@
+package capstone.parkingmate.service;
+
+import capstone.parkingmate.dto.CatalogLot;
+import capstone.parkingmate.dto.CongestionChangeDTO;
+import capstone.parkingmate.dto.CongestionDTO;
+import capstone.parkingmate.dto.CongestionSnapshot;
+import capstone.parkingmate.event.CongestionSnapshotUpdatedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+// 스냅샷 사이에 현재 주차 대수가 바뀐 주차장만 SSE로 전달하는 서비스
+// 발행 쪽은 구독자 큐에 offer만 하고, 전송은 별도 스레드가 맡는다. 큐가 가득 찬 구독자는 끊는다.
+@Slf4j
+@Service
+public class CongestionStreamService {
+
+    private final ParkingLotCatalogService parkingLotCatalogService;
+    private final ParkingCapacityService parkingCapacityService;
+
+    private final long emitterTimeoutMs;
+    private final int queueCapacity;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService sender;
+
+    public CongestionStreamService(
+            ParkingLotCatalogService parkingLotCatalogService,
+            ParkingCapacityService parkingCapacityService,
+            @Value("${congestion.stream.timeout-ms:1800000}") long emitterTimeoutMs,
+            @Value("${congestion.stream.queue-capacity:16}") int queueCapacity,
+            @Value("${congestion.stream.sender-threads:2}") int senderThreads
+    ) {
+        this.parkingLotCatalogService = parkingLotCatalogService;
+        this.parkingCapacityService = parkingCapacityService;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.queueCapacity = Math.max(1, queueCapacity);
+
+        AtomicInteger seq = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(Math.max(1, senderThreads), r -> {
+            Thread t = new Thread(r, "congestion-sse-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    // 구독 등록. p_ids, 영역 둘 다 없으면 전체 주차장 구독
+    public SseEmitter subscribe(Set<Long> p_ids, Double minLat, Double minLon, Double maxLat, Double maxLon) {
+        Set<Long> filter = null;
+        if (p_ids != null && !p_ids.isEmpty()) {
+            filter = Set.copyOf(p_ids);
+        } else if (minLat != null && minLon != null && maxLat != null && maxLon != null) {
+            filter = parkingLotCatalogService.getCatalog().withinBox(minLat, minLon, maxLat, maxLon).stream()
+                    .map(CatalogLot::getP_id)
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, filter, new ArrayBlockingQueue<>(queueCapacity));
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        log.info("혼잡도 스트림 구독 (대상={}, 구독자 수={})", filter == null ? "전체" : filter.size(), subscribers.size());
+        return emitter;
+    }
+
+    @EventListener
+    public void onSnapshotUpdated(CongestionSnapshotUpdatedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        List<CongestionChangeDTO> changes = diff(event.getPrevious(), event.getCurrent());
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        for (Subscriber subscriber : subscribers) {
+            List<CongestionChangeDTO> batch = subscriber.filter == null
+                    ? changes
+                    : changes.stream().filter(c -> subscriber.filter.contains(c.getP_id())).toList();
+            if (batch.isEmpty()) {
+                continue;
+            }
+
+            // 느린 구독자는 발행을 막지 않고 끊는다
+            if (!subscriber.queue.offer(batch)) {
+                log.warn("혼잡도 스트림 구독자 버퍼 초과, 연결 종료");
+                drop(subscriber);
+                continue;
+            }
+            scheduleDrain(subscriber);
+        }
+    }
+
+    // 이전 스냅샷 대비 현재 주차 대수가 바뀐 주차장 목록
+    private List<CongestionChangeDTO> diff(CongestionSnapshot previous, CongestionSnapshot current) {
+        List<CongestionChangeDTO> changes = new ArrayList<>();
+        for (CongestionDTO dto : current.getByPid().values()) {
+            CongestionDTO before = previous.get(dto.getP_id());
+            if (before != null && before.getCurrent_vehicles() == dto.getCurrent_vehicles()) {
+                continue;
+            }
+            // 총 면수가 1인 노상주차장은 보정표 값으로 내려준다
+            int total = dto.getTotal_spaces();
+            if (total == 1) {
+                total = parkingCapacityService.capacityOf(dto.getP_id(), total);
+            }
+            changes.add(CongestionChangeDTO.builder()
+                    .p_id(dto.getP_id())
+                    .current_vehicles(dto.getCurrent_vehicles())
+                    .total_spaces(total)
+                    .version(current.getVersion())
+                    .build());
+        }
+        return changes;
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            List<CongestionChangeDTO> batch;
+            while ((batch = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event().name("congestion").data(batch));
+            }
+        } catch (IOException | IllegalStateException e) {
+            drop(subscriber);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+
+        // drain 종료 직후 들어온 배치 처리
+        if (!subscriber.queue.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void drop(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.queue.clear();
+        subscriber.emitter.complete();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(s -> s.emitter.complete());
+        sender.shutdownNow();
+    }
+
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<Long> filter;   // null 이면 전체
+        private final BlockingQueue<List<CongestionChangeDTO>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+
+        private Subscriber(SseEmitter emitter, Set<Long> filter, BlockingQueue<List<CongestionChangeDTO>> queue) {
+            this.emitter = emitter;
+            this.filter = filter;
+            this.queue = queue;
+        }
+    }
+}
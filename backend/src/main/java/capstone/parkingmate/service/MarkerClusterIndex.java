@@ -0,0 +1,391 @@
+package capstone.parkingmate.service;
+
+import capstone.parkingmate.dto.CatalogLot;
+import capstone.parkingmate.dto.CongestionDTO;
+import capstone.parkingmate.dto.CongestionSnapshot;
+import capstone.parkingmate.dto.MarkerResponseDTO;
+import capstone.parkingmate.event.CongestionSnapshotUpdatedEvent;
+import capstone.parkingmate.event.ParkingCapacityReloadedEvent;
+import capstone.parkingmate.event.ParkingLotCatalogUpdatedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 지도 뷰포트용 확대 수준별 그리드 클러스터
+// 웹 메르카토르 좌표에서 확대 수준(0 ~ max-cluster-zoom)마다 cell-px 크기 격자로 주차장을 미리 묶어 둔다.
+// 조회는 뷰포트에 걸친 칸만 읽으므로 주차장 수와 관계없이 응답 크기가 max-markers 이하로 유지된다.
+// 주차장 정보나 총 주차면수 보정표가 바뀌거나 실시간 혼잡도 스냅샷이 갱신되면 다시 만든다.
+// 가용률은 허용 경과 시간 안의 스냅샷으로만 계산하고, 쓰던 스냅샷이 오래되면 가용률 없이 다시 만든다.
+@Slf4j
+@Service
+public class MarkerClusterIndex {
+
+    private static final double MAX_LAT = 85.05112878; // 웹 메르카토르 위도 한계
+    private static final int TILE_PX = 256;
+
+    private final ParkingLotCatalogService parkingLotCatalogService;
+    private final CongestionSnapshotService congestionSnapshotService;
+    private final ParkingCapacityService parkingCapacityService;
+    private final int maxClusterZoom;
+    private final int cellPx;
+    private final int maxMarkers;
+
+    private volatile Lots lots = Lots.of(List.of());
+    private volatile Index index;
+
+    public MarkerClusterIndex(
+            ParkingLotCatalogService parkingLotCatalogService,
+            CongestionSnapshotService congestionSnapshotService,
+            ParkingCapacityService parkingCapacityService,
+            @Value("${map.marker.max-cluster-zoom:15}") int maxClusterZoom,
+            @Value("${map.marker.cell-px:80}") int cellPx,
+            @Value("${map.marker.max-markers:500}") int maxMarkers
+    ) {
+        this.parkingLotCatalogService = parkingLotCatalogService;
+        this.congestionSnapshotService = congestionSnapshotService;
+        this.parkingCapacityService = parkingCapacityService;
+        this.maxClusterZoom = Math.max(0, Math.min(20, maxClusterZoom));
+        this.cellPx = Math.max(16, cellPx);
+        this.maxMarkers = Math.max(1, maxMarkers);
+        this.index = Index.build(lots, CongestionSnapshot.EMPTY, parkingCapacityService, this.maxClusterZoom, this.cellPx);
+    }
+
+    @PostConstruct
+    public void init() {
+        reloadLots(parkingLotCatalogService.getCatalog().getLots());
+    }
+
+    // 주차장 등록/수정/삭제 → 새 카탈로그로 다시 묶음 (평점만 바뀐 경우는 무관)
+    @EventListener
+    public void onCatalogUpdated(ParkingLotCatalogUpdatedEvent event) {
+        if (!event.isRatingOnly()) {
+            reloadLots(event.getCurrent().getLots());
+        }
+    }
+
+    // 혼잡도 갱신 → 가용률만 바뀌므로 보관한 주차장 목록으로 다시 묶음
+    // 이벤트의 스냅샷 대신 잠금 안에서 최신 스냅샷을 읽어 늦게 처리된 이벤트가 새 값을 덮지 않게 한다.
+    @EventListener
+    public void onSnapshotUpdated(CongestionSnapshotUpdatedEvent event) {
+        rebuild();
+    }
+
+    // 보정표 교체 → 면수 1 주차장의 가용률이 달라지므로 다시 묶음
+    @EventListener
+    public void onCapacityReloaded(ParkingCapacityReloadedEvent event) {
+        rebuild();
+    }
+
+    private synchronized void reloadLots(List<CatalogLot> source) {
+        lots = Lots.of(source);
+        rebuild();
+    }
+
+    // 주차장 목록과 스냅샷을 모두 잠금 안에서 읽는다
+    private synchronized void rebuild() {
+        long start = System.nanoTime();
+        Lots current = lots;
+        index = Index.build(current, congestionSnapshotService.getFreshSnapshot(), parkingCapacityService,
+                maxClusterZoom, cellPx);
+        log.debug("지도 마커 클러스터 생성: 주차장 {}개, {}ms", current.ids.length, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // 수집이 멈춰 쓰던 스냅샷이 오래되면 가용률 없이 다시 만든다
+    private Index freshIndex() {
+        Index idx = index;
+        if (!congestionSnapshotService.isStale(idx.snapshot)) {
+            return idx;
+        }
+        synchronized (this) {
+            if (index == idx) {
+                rebuild();
+            }
+            return index;
+        }
+    }
+
+    // 뷰포트 안의 마커. max-cluster-zoom 보다 확대되어 있으면 주차장 각각을,
+    // 아니면 해당 수준의 클러스터를 돌려준다. 개수가 max-markers 를 넘으면 한 단계씩 축소한 수준을 사용한다.
+    public List<MarkerResponseDTO> query(double minLat, double minLon, double maxLat, double maxLon, int zoom) {
+        Index idx = freshIndex();
+        int z = Math.max(0, zoom);
+
+        if (z > maxClusterZoom) {
+            List<MarkerResponseDTO> markers = idx.lotsIn(minLat, minLon, maxLat, maxLon, maxMarkers);
+            if (markers != null) {
+                return markers;
+            }
+            z = maxClusterZoom;
+        }
+
+        for (; z > 0; z--) {
+            List<MarkerResponseDTO> markers = idx.levels[z].query(idx, minLat, minLon, maxLat, maxLon, maxMarkers);
+            if (markers != null) {
+                return markers;
+            }
+        }
+        // 가장 축소된 수준은 칸 수가 몇 개뿐이라 제한 없이 반환
+        return idx.levels[0].query(idx, minLat, minLon, maxLat, maxLon, Integer.MAX_VALUE);
+    }
+
+    // 웹 메르카토르 x (0 ~ 1, 서 → 동)
+    private static double mercatorX(double lon) {
+        return Math.max(0.0, Math.min(1.0, (lon + 180.0) / 360.0));
+    }
+
+    // 웹 메르카토르 y (0 ~ 1, 북 → 남)
+    private static double mercatorY(double lat) {
+        double phi = Math.toRadians(Math.max(-MAX_LAT, Math.min(MAX_LAT, lat)));
+        double y = 0.5 - Math.log(Math.tan(Math.PI / 4 + phi / 2)) / (2 * Math.PI);
+        return Math.max(0.0, Math.min(1.0, y));
+    }
+
+    // 주차장 목록 (p_id 순서와 무관한 배열 인덱스로 참조)
+    private static final class Lots {
+        final long[] ids;
+        final String[] names;
+        final double[] lats;
+        final double[] lons;
+
+        private Lots(long[] ids, String[] names, double[] lats, double[] lons) {
+            this.ids = ids;
+            this.names = names;
+            this.lats = lats;
+            this.lons = lons;
+        }
+
+        static Lots of(List<CatalogLot> source) {
+            int n = source.size();
+            long[] ids = new long[n];
+            String[] names = new String[n];
+            double[] lats = new double[n];
+            double[] lons = new double[n];
+            for (int i = 0; i < n; i++) {
+                CatalogLot lot = source.get(i);
+                ids[i] = lot.getP_id();
+                names[i] = lot.getName();
+                lats[i] = lot.getLatitude();
+                lons[i] = lot.getLongitude();
+            }
+            return new Lots(ids, names, lats, lons);
+        }
+    }
+
+    private static final class Index {
+        final Lots lots;
+        final CongestionSnapshot snapshot;   // 가용률 계산에 쓴 스냅샷
+        final double[] availability;   // 주차장별 가용률(%), 모르면 NaN
+        final Level[] levels;          // 확대 수준별 클러스터
+
+        private Index(Lots lots, CongestionSnapshot snapshot, double[] availability, Level[] levels) {
+            this.lots = lots;
+            this.snapshot = snapshot;
+            this.availability = availability;
+            this.levels = levels;
+        }
+
+        static Index build(Lots lots, CongestionSnapshot snapshot, ParkingCapacityService capacity,
+                           int maxZoom, int cellPx) {
+            int n = lots.ids.length;
+            double[] fx = new double[n];
+            double[] fy = new double[n];
+            double[] availability = new double[n];
+            for (int i = 0; i < n; i++) {
+                fx[i] = mercatorX(lots.lons[i]);
+                fy[i] = mercatorY(lots.lats[i]);
+                availability[i] = availabilityOf(snapshot.get(lots.ids[i]), lots.ids[i], capacity);
+            }
+
+            Level[] levels = new Level[maxZoom + 1];
+            for (int z = 0; z <= maxZoom; z++) {
+                levels[z] = Level.build(lots, availability, fx, fy, z, cellPx, z == maxZoom);
+            }
+            return new Index(lots, snapshot, availability, levels);
+        }
+
+        // 빈 자리 비율(%). 총 면수가 1(미확인)이면 보정표 값을 쓰고, 그래도 모르면 NaN
+        private static double availabilityOf(CongestionDTO dto, long p_id, ParkingCapacityService capacity) {
+            if (dto == null) {
+                return Double.NaN;
+            }
+            int total = dto.getTotal_spaces();
+            if (total == 1) {
+                total = capacity.capacityOf(p_id, 0);
+            }
+            if (total <= 1) {
+                return Double.NaN;
+            }
+            double free = total - dto.getCurrent_vehicles();
+            return Math.max(0.0, Math.min(100.0, free * 100.0 / total));
+        }
+
+        // 가장 세밀한 수준의 칸에서 뷰포트 안 주차장을 각각 꺼낸다. limit 을 넘으면 null
+        List<MarkerResponseDTO> lotsIn(double minLat, double minLon, double maxLat, double maxLon, int limit) {
+            Level finest = levels[levels.length - 1];
+            List<Cluster> cells = finest.clustersIn(minLat, minLon, maxLat, maxLon, Integer.MAX_VALUE);
+
+            List<MarkerResponseDTO> result = new ArrayList<>();
+            for (Cluster cell : cells) {
+                for (int i : cell.members) {
+                    double lat = lots.lats[i];
+                    double lon = lots.lons[i];
+                    if (lat < minLat || lat > maxLat || lon < minLon || lon > maxLon) {
+                        continue;
+                    }
+                    if (result.size() >= limit) {
+                        return null;
+                    }
+                    result.add(lotMarker(i));
+                }
+            }
+            return result;
+        }
+
+        MarkerResponseDTO lotMarker(int i) {
+            return MarkerResponseDTO.builder()
+                    .type(MarkerResponseDTO.Type.LOT)
+                    .p_id(lots.ids[i])
+                    .name(lots.names[i])
+                    .latitude(lots.lats[i])
+                    .longitude(lots.lons[i])
+                    .count(1)
+                    .availability(Double.isNaN(availability[i]) ? null : availability[i])
+                    .build();
+        }
+    }
+
+    private static final class Level {
+        final long grid;                  // 축당 칸 수
+        final Map<Long, Cluster> cells;   // 칸 번호(x * grid + y) → 클러스터
+        final List<Cluster> clusters;
+
+        private Level(long grid, Map<Long, Cluster> cells, List<Cluster> clusters) {
+            this.grid = grid;
+            this.cells = cells;
+            this.clusters = clusters;
+        }
+
+        static Level build(Lots lots, double[] availability, double[] fx, double[] fy,
+                           int zoom, int cellPx, boolean keepMembers) {
+            long grid = Math.max(1L, (long) Math.ceil((double) TILE_PX * (1L << zoom) / cellPx));
+
+            Map<Long, Cluster> cells = new HashMap<>();
+            for (int i = 0; i < fx.length; i++) {
+                long x = Math.min(grid - 1, (long) (fx[i] * grid));
+                long y = Math.min(grid - 1, (long) (fy[i] * grid));
+                cells.computeIfAbsent(x * grid + y, k -> new Cluster(x, y)).add(lots, availability, i);
+            }
+
+            List<Cluster> clusters = new ArrayList<>(cells.values());
+            for (Cluster c : clusters) {
+                c.finish(keepMembers);
+            }
+            return new Level(grid, cells, clusters);
+        }
+
+        // 뷰포트에 걸친 칸의 클러스터. limit 을 넘으면 null
+        List<MarkerResponseDTO> query(Index idx, double minLat, double minLon, double maxLat, double maxLon, int limit) {
+            List<Cluster> found = clustersIn(minLat, minLon, maxLat, maxLon, limit);
+            if (found == null) {
+                return null;
+            }
+            List<MarkerResponseDTO> result = new ArrayList<>(found.size());
+            for (Cluster c : found) {
+                result.add(c.count == 1 ? idx.lotMarker(c.first) : c.toMarker());
+            }
+            return result;
+        }
+
+        // 뷰포트 칸 수와 클러스터 수 중 작은 쪽을 훑는다
+        List<Cluster> clustersIn(double minLat, double minLon, double maxLat, double maxLon, int limit) {
+            long x0 = cellOf(mercatorX(minLon)), x1 = cellOf(mercatorX(maxLon));
+            long y0 = cellOf(mercatorY(maxLat)), y1 = cellOf(mercatorY(minLat));
+            long span = (x1 - x0 + 1) * (y1 - y0 + 1);
+
+            List<Cluster> result = new ArrayList<>();
+            if (span <= clusters.size()) {
+                for (long x = x0; x <= x1; x++) {
+                    for (long y = y0; y <= y1; y++) {
+                        Cluster c = cells.get(x * grid + y);
+                        if (c != null) {
+                            if (result.size() >= limit) {
+                                return null;
+                            }
+                            result.add(c);
+                        }
+                    }
+                }
+            } else {
+                for (Cluster c : clusters) {
+                    if (c.x >= x0 && c.x <= x1 && c.y >= y0 && c.y <= y1) {
+                        if (result.size() >= limit) {
+                            return null;
+                        }
+                        result.add(c);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private long cellOf(double fraction) {
+            return Math.min(grid - 1, (long) (fraction * grid));
+        }
+    }
+
+    private static final class Cluster {
+        final long x;
+        final long y;
+        int count;
+        int first = -1;
+        double sumLat;
+        double sumLon;
+        double sumAvailability;
+        int knownAvailability;
+        int[] members = new int[1];
+
+        Cluster(long x, long y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        void add(Lots lots, double[] availability, int i) {
+            if (first < 0) {
+                first = i;
+            }
+            if (count == members.length) {
+                members = Arrays.copyOf(members, count * 2);
+            }
+            members[count++] = i;
+            sumLat += lots.lats[i];
+            sumLon += lots.lons[i];
+            if (!Double.isNaN(availability[i])) {
+                sumAvailability += availability[i];
+                knownAvailability++;
+            }
+        }
+
+        // 개별 주차장이 필요 없는 수준은 소속 목록을 버린다
+        void finish(boolean keepMembers) {
+            members = keepMembers ? Arrays.copyOf(members, count) : null;
+        }
+
+        MarkerResponseDTO toMarker() {
+            return MarkerResponseDTO.builder()
+                    .type(MarkerResponseDTO.Type.CLUSTER)
+                    .latitude(sumLat / count)
+                    .longitude(sumLon / count)
+                    .count(count)
+                    .availability(knownAvailability == 0 ? null : sumAvailability / knownAvailability)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package capstone.parkingmate.service;
+
+import capstone.parkingmate.dto.ParkingLotRetrieveDTO;
+import capstone.parkingmate.dto.ResponseData;
+import capstone.parkingmate.event.ParkingLotCatalogUpdatedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+// 주차장 마커 목록(GET /api/parking-lots) 응답 본문 캐시
+// 주차장 정보가 바뀔 때만 달라지므로 JSON 바이트와 gzip 압축본을 한 번 만들어 두고 그대로 내려준다.
+// 마커 내용(이름·위치)이 바뀔 때만 올리는 마커 버전을 키로 하므로 관리자가 주차장을 등록/수정/삭제하면
+// 다음 요청에서 다시 만들고, 평점만 바뀐 카탈로그 갱신은 캐시와 ETag 를 그대로 둔다.
+@Slf4j
+@Service
+public class MarkerPayloadCache {
+
+    private final ParkingLotService parkingLotService;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong markerVersion = new AtomicLong();
+    private volatile Payload payload;
+
+    public MarkerPayloadCache(ParkingLotService parkingLotService, ObjectMapper objectMapper) {
+        this.parkingLotService = parkingLotService;
+        this.objectMapper = objectMapper;
+    }
+
+    // 카탈로그가 교체된 뒤 발행되므로 이후 build 는 새 카탈로그를 읽는다 (평점만 바뀐 경우는 무관)
+    @EventListener
+    public void onCatalogUpdated(ParkingLotCatalogUpdatedEvent event) {
+        if (!event.isRatingOnly()) {
+            markerVersion.incrementAndGet();
+        }
+    }
+
+    public Payload get() {
+        Payload current = payload;
+        if (current != null && current.version == markerVersion.get()) {
+            return current;
+        }
+        return build();
+    }
+
+    // 버전을 카탈로그보다 먼저 읽어, 그 사이 변경이 있어도 다음 요청에서 다시 만들게 한다
+    private synchronized Payload build() {
+        long v = markerVersion.get();
+        Payload current = payload;
+        if (current != null && current.version == v) {
+            return current;
+        }
+
+        List<ParkingLotRetrieveDTO> parkingLots = parkingLotService.retrieve();
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(ResponseData.res(HttpStatus.OK, "주차장 조회 성공", parkingLots));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주차장 마커 직렬화 실패", e);
+        }
+
+        Payload built = new Payload(v, json, gzip(json), etagOf(json));
+        payload = built;
+        log.info("주차장 마커 응답 캐시 생성: {}건, {}B (gzip {}B)", parkingLots.size(), json.length, built.gzip.length);
+        return built;
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    // 본문 SHA-256 앞 16바이트
+    private static String etagOf(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 직렬화된 응답. 압축본은 표현이 다르므로 ETag 에 -gzip 을 붙여 구분한다.
+    @Getter
+    public static final class Payload {
+        private final long version;
+        private final byte[] json;
+        private final byte[] gzip;
+        private final String etag;
+        private final String gzipEtag;
+
+        private Payload(long version, byte[] json, byte[] gzip, String hash) {
+            this.version = version;
+            this.json = json;
+            this.gzip = gzip;
+            this.etag = "\"" + hash + "\"";
+            this.gzipEtag = "\"" + hash + "-gzip\"";
+        }
+
+        // If-None-Match 에 현재 본문의 ETag(압축 여부 무관)가 있으면 true
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            for (String tag : ifNoneMatch.split(",")) {
+                String t = tag.trim();
+                if (t.startsWith("W/")) {
+                    t = t.substring(2);
+                }
+                if (t.equals("*") || t.equals(etag) || t.equals(gzipEtag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package capstone.parkingmate.service;
+
+import capstone.parkingmate.dto.CatalogLot;
+import capstone.parkingmate.event.ParkingCapacityReloadedEvent;
+import capstone.parkingmate.event.ParkingLotCatalogUpdatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// 노상주차장 총 주차면수 보정표 (parking_capacity_grouped.csv)
+// 실시간 API가 총 면수를 1로 주는 주차장은 이 표의 값으로 보정한다.
+// 시작 시 한 번 읽어 p_id → 면수 표로 만들어 두고, 외부 경로(capacity.csv.path)를 쓰면 파일이 바뀔 때 다시 읽는다.
+// 시작 시 읽지 못하면 기동을 멈추고, 이후 재로드 실패는 기존 표를 유지한 채 parking.capacity.load.failures 로 집계한다.
+// 표를 교체하면 ParkingCapacityReloadedEvent 를 발행해 보정 면수로 계산한 캐시를 비우게 한다.
+@Slf4j
+@Service
+public class ParkingCapacityService {
+
+    private static final String CLASSPATH_CSV = "parking_capacity_grouped.csv";
+
+    private final ParkingLotCatalogService parkingLotCatalogService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Path csvPath;   // null 이면 클래스패스 파일 사용
+
+    // CSV 원본 (주차장명 → 면수). 카탈로그가 바뀌면 이 값으로 p_id 표를 다시 만든다.
+    private volatile Map<String, Integer> rows = Map.of();
+    private volatile FileTime loadedModified;
+    private volatile Table table = Table.EMPTY;
+
+    private final Counter loadFailures;
+
+    public ParkingCapacityService(
+            ParkingLotCatalogService parkingLotCatalogService,
+            MeterRegistry meterRegistry,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${capacity.csv.path:}") String csvPath
+    ) {
+        this.parkingLotCatalogService = parkingLotCatalogService;
+        this.eventPublisher = eventPublisher;
+        this.csvPath = csvPath == null || csvPath.isBlank() ? null : Paths.get(csvPath).toAbsolutePath();
+
+        Gauge.builder("parking.capacity.entries", this, s -> s.table.size())
+                .description("총 주차면수 보정표에서 p_id 로 연결된 주차장 수")
+                .register(meterRegistry);
+        Gauge.builder("parking.capacity.unresolved", this, s -> s.table.unresolved)
+                .description("보정표에 있지만 카탈로그에서 찾지 못한 주차장명 수")
+                .register(meterRegistry);
+        this.loadFailures = Counter.builder("parking.capacity.load.failures")
+                .description("총 주차면수 보정표 로드 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            load();
+        } catch (IOException | RuntimeException e) {
+            loadFailures.increment();
+            throw new IllegalStateException("총 주차면수 보정표 로드 실패: " + source(), e);
+        }
+    }
+
+    // 파일을 다시 읽어 교체. 실패하면 기존 표를 유지하고 예외를 던진다.
+    public synchronized int reload() throws IOException {
+        try {
+            load();
+        } catch (IOException | RuntimeException e) {
+            loadFailures.increment();
+            log.error("총 주차면수 보정표 재로드 실패, 기존 표 유지: {}", source(), e);
+            throw e;
+        }
+        return table.size();
+    }
+
+    // 외부 경로를 쓰는 경우 파일이 바뀌었으면 다시 읽는다
+    @Scheduled(initialDelayString = "${capacity.csv.reload-interval-ms:60000}",
+            fixedDelayString = "${capacity.csv.reload-interval-ms:60000}")
+    public void reloadIfChanged() {
+        if (csvPath == null) {
+            return;
+        }
+        FileTime modified;
+        try {
+            modified = Files.getLastModifiedTime(csvPath);
+        } catch (IOException e) {
+            log.warn("총 주차면수 보정표 파일 확인 실패: {}", csvPath);
+            return;
+        }
+        if (modified.equals(loadedModified)) {
+            return;
+        }
+        try {
+            reload();
+        } catch (IOException | RuntimeException e) {
+            // reload 에서 이미 집계·로그 처리
+        }
+    }
+
+    // 주차장 등록/수정/삭제 시 이름 → p_id 연결만 다시 계산 (파일은 다시 읽지 않음)
+    @EventListener
+    public void onCatalogUpdated(ParkingLotCatalogUpdatedEvent event) {
+        if (!event.isRatingOnly()) {
+            table = Table.resolve(rows, parkingLotCatalogService);
+        }
+    }
+
+    // 보정 면수. 표에 없으면 defaultValue
+    public int capacityOf(long p_id, int defaultValue) {
+        return table.get(p_id, defaultValue);
+    }
+
+    private synchronized void load() throws IOException {
+        FileTime modified = csvPath != null ? Files.getLastModifiedTime(csvPath) : null;
+        Map<String, Integer> parsed;
+        try (InputStream is = open()) {
+            parsed = parse(is);
+        }
+
+        Table next = Table.resolve(parsed, parkingLotCatalogService);
+        rows = Map.copyOf(parsed);
+        table = next;
+        loadedModified = modified;
+        log.info("총 주차면수 보정표 로드: {}건 (p_id 연결 {}건, 미연결 {}건, {})",
+                parsed.size(), next.size(), next.unresolved, source());
+        eventPublisher.publishEvent(new ParkingCapacityReloadedEvent(next.size()));
+    }
+
+    private InputStream open() throws IOException {
+        if (csvPath != null) {
+            return Files.newInputStream(csvPath);
+        }
+        InputStream is = getClass().getClassLoader().getResourceAsStream(CLASSPATH_CSV);
+        if (is == null) {
+            throw new FileNotFoundException("CSV 파일을 찾을 수 없습니다: " + CLASSPATH_CSV);
+        }
+        return is;
+    }
+
+    // 주차장코드,주차장명,총 주차면 (첫 줄은 헤더)
+    private static Map<String, Integer> parse(InputStream is) throws IOException {
+        Map<String, Integer> result = new HashMap<>();
+        BufferedReader br = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+
+        br.readLine(); // 헤더 건너뜀
+        String line;
+        int lineNo = 1;
+        while ((line = br.readLine()) != null) {
+            lineNo++;
+            String[] parts = line.split(",", -1);
+            if (parts.length < 3) {
+                continue;
+            }
+            String name = parts[1].trim(); // 주차장명
+            try {
+                result.put(name, (int) Double.parseDouble(parts[2].trim())); // 총 주차면수
+            } catch (NumberFormatException e) {
+                throw new IOException("잘못된 총 주차면수 (" + lineNo + "행): " + parts[2], e);
+            }
+        }
+        return result;
+    }
+
+    private String source() {
+        return csvPath != null ? csvPath.toString() : "classpath:" + CLASSPATH_CSV;
+    }
+
+    // p_id 오름차순 배열 + 이진 탐색으로 조회하는 불변 표
+    private static final class Table {
+        static final Table EMPTY = new Table(new long[0], new int[0], 0);
+
+        final long[] ids;
+        final int[] capacities;
+        final int unresolved;
+
+        private Table(long[] ids, int[] capacities, int unresolved) {
+            this.ids = ids;
+            this.capacities = capacities;
+            this.unresolved = unresolved;
+        }
+
+        static Table resolve(Map<String, Integer> rows, ParkingLotCatalogService catalogService) {
+            long[][] pairs = new long[rows.size()][];
+            int n = 0;
+            int unresolved = 0;
+            for (Map.Entry<String, Integer> row : rows.entrySet()) {
+                CatalogLot lot = catalogService.getCatalog().findByName(row.getKey());
+                if (lot == null) {
+                    unresolved++;
+                    continue;
+                }
+                pairs[n++] = new long[]{lot.getP_id(), row.getValue()};
+            }
+
+            long[][] used = Arrays.copyOf(pairs, n);
+            Arrays.sort(used, (a, b) -> Long.compare(a[0], b[0]));
+            long[] ids = new long[n];
+            int[] capacities = new int[n];
+            for (int i = 0; i < n; i++) {
+                ids[i] = used[i][0];
+                capacities[i] = (int) used[i][1];
+            }
+            return new Table(ids, capacities, unresolved);
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        int get(long id, int defaultValue) {
+            int i = Arrays.binarySearch(ids, id);
+            return i >= 0 ? capacities[i] : defaultValue;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package capstone.parkingmate.service;
+
+import capstone.parkingmate.dto.CatalogLot;
+import capstone.parkingmate.dto.ParkingLotCatalog;
+import capstone.parkingmate.entity.ParkingLot;
+import capstone.parkingmate.event.ParkingLotCatalogChangedEvent;
+import capstone.parkingmate.event.ParkingLotCatalogUpdatedEvent;
+import capstone.parkingmate.event.ParkingLotRatingChangedEvent;
+import capstone.parkingmate.repository.ParkingLotRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+// 주차장 테이블 전체를 메모리에 불변 스냅샷(카탈로그)으로 보관하는 서비스
+// 조회 경로는 DB 대신 현재 카탈로그를 읽는다. 관리자 등록/수정/삭제와 평점 변경은
+// 커밋 이후 해당 주차장만 반영한 새 스냅샷으로 교체하고 ParkingLotCatalogUpdatedEvent 를 발행한다.
+@Slf4j
+@Service
+public class ParkingLotCatalogService {
+
+    private final ParkingLotRepository parkingLotRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int nearestK;
+
+    private volatile ParkingLotCatalog current = ParkingLotCatalog.EMPTY;
+
+    public ParkingLotCatalogService(
+            ParkingLotRepository parkingLotRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${spatial.nearest.k:3}") int nearestK
+    ) {
+        this.parkingLotRepository = parkingLotRepository;
+        this.eventPublisher = eventPublisher;
+        this.nearestK = Math.max(1, nearestK);
+    }
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    // DB 에서 전체를 다시 읽음
+    public synchronized void reload() {
+        ParkingLotCatalog previous = current;
+        List<CatalogLot> lots = parkingLotRepository.findAllWithAvgRating().stream()
+                .map(CatalogLot::from)
+                .toList();
+        replace(previous, ParkingLotCatalog.of(previous.getVersion() + 1, lots), null, false);
+    }
+
+    // 관리자 주차장 등록/수정/삭제 → 해당 주차장만 다시 읽어 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onCatalogChanged(ParkingLotCatalogChangedEvent event) {
+        if (event.getP_id() == null) {
+            reload();
+            return;
+        }
+
+        ParkingLotCatalog previous = current;
+        long nextVersion = previous.getVersion() + 1;
+        ParkingLotCatalog next;
+        if (event.getType() == ParkingLotCatalogChangedEvent.Type.DELETED) {
+            next = previous.without(nextVersion, event.getP_id());
+        } else {
+            List<ParkingLot> rows = parkingLotRepository.findAllWithAvgRatingByIdIn(List.of(event.getP_id()));
+            next = rows.isEmpty()
+                    ? previous.without(nextVersion, event.getP_id())
+                    : previous.with(nextVersion, CatalogLot.from(rows.get(0)));
+        }
+        replace(previous, next, event.getP_id(), false);
+    }
+
+    // 평균 평점 변경 → 이벤트의 값으로 해당 주차장만 교체 (DB 조회 없음)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onRatingChanged(ParkingLotRatingChangedEvent event) {
+        ParkingLotCatalog previous = current;
+        CatalogLot lot = previous.get(event.getP_id());
+        if (lot == null) {
+            return;
+        }
+        CatalogLot updated = lot.toBuilder().avgScore(event.getAvg_score()).build();
+        replace(previous, previous.with(previous.getVersion() + 1, updated), event.getP_id(), true);
+    }
+
+    private void replace(ParkingLotCatalog previous, ParkingLotCatalog next, Long p_id, boolean ratingOnly) {
+        current = next;
+        eventPublisher.publishEvent(new ParkingLotCatalogUpdatedEvent(previous, next, p_id, ratingOnly));
+        if (ratingOnly) {
+            log.debug("주차장 카탈로그 갱신 (version={}, 평점 변경 p_id={})", next.getVersion(), p_id);
+        } else {
+            log.info("주차장 카탈로그 갱신 (version={}, 주차장 {}개{})", next.getVersion(), next.size(),
+                    p_id == null ? "" : ", 변경 p_id=" + p_id);
+        }
+    }
+
+    // 현재 카탈로그 스냅샷
+    public ParkingLotCatalog getCatalog() {
+        return current;
+    }
+
+    public long version() {
+        return current.getVersion();
+    }
+
+    // 가까운 순서로 spatial.nearest.k 개
+    public List<CatalogLot> nearest(double lat, double lon) {
+        return current.nearest(lat, lon, nearestK);
+    }
+}
@@ -2,12 +2,14 @@ package capstone.parkingmate.service;
 
 import capstone.parkingmate.dto.*;
 import capstone.parkingmate.entity.*;
+import capstone.parkingmate.event.ParkingLotRatingChangedEvent;
 import capstone.parkingmate.exception.CustomException;
 import capstone.parkingmate.repository.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +27,7 @@ public class RatingService {
     private final UserRepository userRepository;
     private final ParkingLotRepository parkingLotRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 평점 조회
     @Transactional(readOnly = true)
@@ -97,6 +100,7 @@ public class RatingService {
         avg.setRating_count(avg.getRating_count() + 1);
         avg.setAvg_score(avg.getTotal_score() / avg.getRating_count());
         avgRatingRepository.save(avg);
+        eventPublisher.publishEvent(new ParkingLotRatingChangedEvent(parkingLot.getP_id(), avg.getAvg_score()));
 
         // 5. 성공 응답 반환
         return ResponseData.res(HttpStatus.CREATED, "평점 등록 성공");
@@ -136,6 +140,7 @@ public class RatingService {
         // rating_count는 변동 없음
         avg.setAvg_score(avg.getTotal_score() / avg.getRating_count());
         avgRatingRepository.save(avg);
+        eventPublisher.publishEvent(new ParkingLotRatingChangedEvent(lot.getP_id(), avg.getAvg_score()));
 
         // 6. 성공 응답 반환
         return ResponseData.res(HttpStatus.OK, "평점 수정 성공");
@@ -178,6 +183,7 @@ public class RatingService {
 
         // 4. 평점 삭제
         ratingRepository.delete(rating);
+        eventPublisher.publishEvent(new ParkingLotRatingChangedEvent(lot.getP_id(), avg.getAvg_score()));
 
         // 5. 성공 응답 반환
         return ResponseData.res(HttpStatus.OK, "평점 삭제 성공");
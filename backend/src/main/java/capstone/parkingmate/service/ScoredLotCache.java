@@ -0,0 +1,220 @@
+package capstone.parkingmate.service;
+
+import capstone.parkingmate.dto.CatalogLot;
+import capstone.parkingmate.dto.CongestionDTO;
+import capstone.parkingmate.dto.CongestionSnapshot;
+import capstone.parkingmate.dto.ScoredLot;
+import capstone.parkingmate.event.CongestionForecastReloadedEvent;
+import capstone.parkingmate.event.CongestionSnapshotUpdatedEvent;
+import capstone.parkingmate.event.ParkingCapacityReloadedEvent;
+import capstone.parkingmate.event.ParkingLotCatalogUpdatedEvent;
+import capstone.parkingmate.util.GeoHash;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 추천 점수 계산 결과 캐시
+// 키: 후보 주차장 객체 + 요일 + 시간 + 주차장별 실시간 혼잡도 구간 + 기준 위치 geohash 칸 + 주차 시간 + 세대
+// 혼잡도 구간이 바뀐 주차장이나 정보·평점이 바뀐 주차장이 포함된 항목은 즉시 제거한다.
+// 카탈로그는 바뀐 주차장만 새 객체로 바꾸므로 키는 주차장을 객체 동일성으로 비교한다.
+// 무효화 중에 끝난 이전 계산이 늦게 저장되더라도 이전 객체·세대로 저장되어 다시 조회되지 않는다.
+@Slf4j
+@Service
+public class ScoredLotCache {
+
+    private final ParkingCapacityService parkingCapacityService;
+    private final Cache<Key, List<ScoredLot>> cache;
+    private final int congestionBucket;   // 혼잡도 구간 폭 (%)
+    private final int geohashPrecision;
+    // 예측표·보정표 교체처럼 키에 드러나지 않는 입력이 바뀌면 올린다
+    private final AtomicLong generation = new AtomicLong();
+
+    public ScoredLotCache(
+            ParkingCapacityService parkingCapacityService,
+            MeterRegistry meterRegistry,
+            @Value("${scoring.cache.max-entries:10000}") long maxEntries,
+            @Value("${scoring.cache.ttl-ms:60000}") long ttlMs,
+            @Value("${scoring.cache.congestion-bucket:5}") int congestionBucket,
+            @Value("${scoring.cache.geohash-precision:7}") int geohashPrecision
+    ) {
+        this.parkingCapacityService = parkingCapacityService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        this.congestionBucket = Math.max(1, congestionBucket);
+        this.geohashPrecision = geohashPrecision;
+
+        // cache.gets{result=hit|miss}, cache.evictions 등
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "scoredLots");
+    }
+
+    // 캐시에 있으면 그대로, 없으면 loader 로 계산해 저장
+    public List<ScoredLot> get(List<CatalogLot> lots, CongestionSnapshot snapshot, int weekday, int hour,
+                               double baseLat, double baseLon, int duration, Supplier<List<ScoredLot>> loader) {
+        CatalogLot[] keyLots = lots.toArray(new CatalogLot[0]);
+        int[] buckets = new int[keyLots.length];
+        for (int i = 0; i < keyLots.length; i++) {
+            buckets[i] = bucketOf(keyLots[i].getP_id(), snapshot);
+        }
+        Key key = new Key(keyLots, buckets, weekday, hour, GeoHash.encode(baseLat, baseLon, geohashPrecision),
+                duration, generation.get());
+
+        // 예측 호출이 있을 수 있어 계산은 캐시 잠금 밖에서 한다
+        List<ScoredLot> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        List<ScoredLot> scored = List.copyOf(loader.get());
+        // 대체 순위 결과는 저장하지 않아 다음 요청이 다시 예측을 시도하게 한다
+        if (scored.isEmpty() || !scored.get(0).isFallback()) {
+            cache.put(key, scored);
+        }
+        return scored;
+    }
+
+    // 새 스냅샷에서 혼잡도 구간이 달라진 주차장을 포함한 항목 제거
+    @EventListener
+    public void onSnapshotUpdated(CongestionSnapshotUpdatedEvent event) {
+        CongestionSnapshot current = event.getCurrent();
+        int before = cache.asMap().size();
+        cache.asMap().keySet().removeIf(key -> {
+            for (int i = 0; i < key.lots.length; i++) {
+                if (key.buckets[i] != bucketOf(key.lots[i].getP_id(), current)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+        log.debug("점수 캐시: 혼잡도 변경으로 {}건 제거", before - cache.asMap().size());
+    }
+
+    // 카탈로그에서 바뀐 주차장(정보·평균 평점)을 포함한 항목 제거. 전체를 다시 읽었으면 모두 무효화
+    // 바뀐 주차장은 새 객체라 기존 항목은 어차피 조회되지 않으므로 메모리 정리 목적이다.
+    @EventListener
+    public void onCatalogUpdated(ParkingLotCatalogUpdatedEvent event) {
+        if (event.getP_id() == null) {
+            cache.invalidateAll();
+            return;
+        }
+        long pid = event.getP_id();
+        cache.asMap().keySet().removeIf(key -> key.contains(pid));
+    }
+
+    // 예측표가 바뀌면 예측 혼잡도로 계산한 점수가 모두 달라진다
+    @EventListener
+    public void onForecastReloaded(CongestionForecastReloadedEvent event) {
+        invalidateGeneration();
+        log.debug("점수 캐시: 혼잡도 예측표 교체로 전체 무효화");
+    }
+
+    // 보정 면수가 바뀌면 면수 1 주차장의 혼잡도가 달라진다
+    @EventListener
+    public void onCapacityReloaded(ParkingCapacityReloadedEvent event) {
+        invalidateGeneration();
+        log.debug("점수 캐시: 총 주차면수 보정표 교체로 전체 무효화");
+    }
+
+    // 세대를 먼저 올려 진행 중인 계산이 이전 세대 키로 저장되게 한 뒤 비운다
+    private void invalidateGeneration() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    // 실시간 혼잡도 구간. 실시간 값이 없으면 -1 (예측값은 요일·시간으로 결정됨)
+    // 점수 계산(ParkingLotService.liveCongestion)과 같이 총 면수 1(노상주차장)은 보정표 값으로 나눈다.
+    private int bucketOf(long p_id, CongestionSnapshot snapshot) {
+        CongestionDTO dto = snapshot.get(p_id);
+        if (dto == null) {
+            return -1;
+        }
+        int total = dto.getTotal_spaces();
+        if (total == 1) {
+            total = parkingCapacityService.capacityOf(p_id, total);
+        }
+        if (total <= 0) {
+            return -1;
+        }
+        double percent = Math.min(100.0, dto.getCurrent_vehicles() * 100.0 / total);
+        return (int) (percent / congestionBucket);
+    }
+
+    private static final class Key {
+        final CatalogLot[] lots;
+        final int[] buckets;
+        final int weekday;
+        final int hour;
+        final String cell;
+        final int duration;
+        final long generation;
+        final int hash;
+
+        Key(CatalogLot[] lots, int[] buckets, int weekday, int hour, String cell, int duration, long generation) {
+            this.lots = lots;
+            this.buckets = buckets;
+            this.weekday = weekday;
+            this.hour = hour;
+            this.cell = cell;
+            this.duration = duration;
+            this.generation = generation;
+            int h = 1;
+            for (CatalogLot lot : lots) {
+                h = 31 * h + Long.hashCode(lot.getP_id());
+            }
+            h = 31 * h + Arrays.hashCode(buckets);
+            h = 31 * h + weekday;
+            h = 31 * h + hour;
+            h = 31 * h + cell.hashCode();
+            h = 31 * h + duration;
+            this.hash = 31 * h + Long.hashCode(generation);
+        }
+
+        boolean contains(long pid) {
+            for (CatalogLot lot : lots) {
+                if (lot.getP_id() == pid) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // 같은 카탈로그 객체인지만 본다
+        private static boolean sameLots(CatalogLot[] a, CatalogLot[] b) {
+            if (a.length != b.length) {
+                return false;
+            }
+            for (int i = 0; i < a.length; i++) {
+                if (a[i] != b[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key k)) return false;
+            return hash == k.hash && weekday == k.weekday && hour == k.hour && duration == k.duration
+                    && generation == k.generation && cell.equals(k.cell)
+                    && sameLots(lots, k.lots) && Arrays.equals(buckets, k.buckets);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package capstone.parkingmate.service;
+
+import capstone.parkingmate.dto.CatalogLot;
+import capstone.parkingmate.dto.ScoreWeights;
+import capstone.parkingmate.dto.ScoredLot;
+import capstone.parkingmate.entity.User;
+import capstone.parkingmate.enums.PreferredFactor;
+import capstone.parkingmate.util.GeoUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// 추천 점수 계산 (기존 score.py recommend()의 점수 산식)
+// 혼잡도 값(실시간 또는 예측)만 외부에서 받고 나머지는 모두 여기서 계산한다.
+@Service
+public class ScoringEngine {
+
+    // 예측값도 없는 주차장의 혼잡도(%)
+    private static final double UNKNOWN_CONGESTION = 50.0;
+
+    private final Map<PreferredFactor, ScoreWeights> scenarios = new EnumMap<>(PreferredFactor.class);
+    private final ScoreWeights fallbackWeights; // AI 예측을 못 받았을 때의 대체 순위 (거리 + 실시간 가용도 + 평점)
+
+    private final int feeBaseMinutes;   // 기본 요금 적용 시간
+    private final int feeUnitMinutes;   // 추가 요금 단위 시간
+
+    public ScoringEngine(
+            @Value("${scoring.weights.congestion:0.8,0.1,0.05,0.05}") double[] congestionFirst,
+            @Value("${scoring.weights.distance:0.5,0.3,0.1,0.1}") double[] distanceFirst,
+            @Value("${scoring.weights.fee:0.5,0.1,0.3,0.1}") double[] feeFirst,
+            @Value("${scoring.weights.rating:0.5,0.1,0.1,0.3}") double[] ratingFirst,
+            @Value("${scoring.weights.fallback:0.4,0.4,0,0.2}") double[] fallback,
+            @Value("${scoring.fee.base-minutes:5}") int feeBaseMinutes,
+            @Value("${scoring.fee.unit-minutes:5}") int feeUnitMinutes
+    ) {
+        scenarios.put(PreferredFactor.CONGESTION, ScoreWeights.of(congestionFirst)); // 혼잡도우선
+        scenarios.put(PreferredFactor.DISTANCE, ScoreWeights.of(distanceFirst));     // 거리우선
+        scenarios.put(PreferredFactor.FEE, ScoreWeights.of(feeFirst));               // 요금우선
+        scenarios.put(PreferredFactor.RATING, ScoreWeights.of(ratingFirst));         // 리뷰우선
+        this.fallbackWeights = ScoreWeights.of(fallback);
+        this.feeBaseMinutes = feeBaseMinutes;
+        this.feeUnitMinutes = Math.max(1, feeUnitMinutes);
+    }
+
+    // 사용자 선호 요소에 해당하는 가중치 (미설정 시 혼잡도우선)
+    public ScoreWeights weightsFor(PreferredFactor factor) {
+        return scenarios.get(factor != null ? factor : PreferredFactor.CONGESTION);
+    }
+
+    // 사용자별 가중치. 사용자 지정 가중치가 있으면 그것을, 없으면 선호 요소 기본값 사용
+    public ScoreWeights weightsFor(User user) {
+        if (user.getWeightCongestion() != null && user.getWeightDistance() != null
+                && user.getWeightFee() != null && user.getWeightRating() != null) {
+            return new ScoreWeights(user.getWeightCongestion(), user.getWeightDistance(),
+                    user.getWeightFee(), user.getWeightRating());
+        }
+        return weightsFor(user.getPreferred_factor());
+    }
+
+    // 대체 순위 가중치. 사용자 선호 요소와 무관하게 적용
+    public ScoreWeights fallbackWeights() {
+        return fallbackWeights;
+    }
+
+    // 후보 주차장 항목별 점수 계산. congestion은 p_id → 혼잡도(%, 0~100)
+    // fallback이면 congestion에 실시간 값만 들어 있고 결과에 대체 순위임을 표시한다.
+    public List<ScoredLot> score(List<CatalogLot> lots, Map<Long, Double> congestion,
+                                 double baseLat, double baseLon, int parkingDuration, boolean fallback) {
+        int n = lots.size();
+        double[] dists = new double[n];
+        double[] fees = new double[n];
+        double minD = Double.MAX_VALUE, maxD = -Double.MAX_VALUE;
+        double minF = Double.MAX_VALUE, maxF = -Double.MAX_VALUE;
+
+        for (int i = 0; i < n; i++) {
+            CatalogLot lot = lots.get(i);
+            dists[i] = GeoUtils.haversine(baseLat, baseLon, lot.getLatitude(), lot.getLongitude());
+            fees[i] = calculateFee(lot, parkingDuration);
+            minD = Math.min(minD, dists[i]);
+            maxD = Math.max(maxD, dists[i]);
+            minF = Math.min(minF, fees[i]);
+            maxF = Math.max(maxF, fees[i]);
+        }
+
+        List<ScoredLot> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            CatalogLot lot = lots.get(i);
+            Double cong = congestion.get(lot.getP_id());
+            double review = lot.getAvgScore();
+
+            result.add(ScoredLot.builder()
+                    .lot(lot)
+                    .distance(dists[i])
+                    .congestionScore(clip(100.0 - (cong != null ? cong : UNKNOWN_CONGESTION), 0, 100))
+                    .distanceScore(maxD > minD ? (maxD - dists[i]) / (maxD - minD) * 100 : 0)
+                    .feeScore(maxF > minF ? (maxF - fees[i]) / (maxF - minF) * 100 : 0)
+                    .reviewScore(clip(review, 0, 5) / 5 * 100)
+                    .fallback(fallback)
+                    .build());
+        }
+        return result;
+    }
+
+    // 주차 시간에 대한 예상 요금 = 기본 요금 + 추가 단위 수 × 추가 요금
+    private double calculateFee(CatalogLot lot, int duration) {
+        int base = lot.getFee() != null ? lot.getFee() : 0;
+        int extra = lot.getExtraFee() != null ? lot.getExtraFee() : 0;
+        if (duration <= feeBaseMinutes) {
+            return base;
+        }
+        int units = (duration - feeBaseMinutes + feeUnitMinutes - 1) / feeUnitMinutes;
+        return base + (double) units * extra;
+    }
+
+    private static double clip(double v, double min, double max) {
+        return Math.max(min, Math.min(max, v));
+    }
+}
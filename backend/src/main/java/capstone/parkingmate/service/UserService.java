@@ -161,6 +161,16 @@ public class UserService {
         responseDTO.setNickname(user.getNickname());
         responseDTO.setPreferred_factor(String.valueOf(user.getPreferred_factor()));
 
+        if (user.getWeightCongestion() != null && user.getWeightDistance() != null
+                && user.getWeightFee() != null && user.getWeightRating() != null) {
+            CustomWeightsDTO weights = new CustomWeightsDTO();
+            weights.setCongestion(user.getWeightCongestion());
+            weights.setDistance(user.getWeightDistance());
+            weights.setFee(user.getWeightFee());
+            weights.setRating(user.getWeightRating());
+            responseDTO.setCustom_weights(weights);
+        }
+
         // 로깅
         log.info("200 : 사용자 {} 마이페이지 조회 성공", user.getEmail());
 
@@ -187,6 +197,10 @@ public class UserService {
         // 정보 수정
         user.setNickname(mypageRequestDTO.getNickname());
         user.setPreferred_factor(PreferredFactor.valueOf(mypageRequestDTO.getPreferred_factor()));
+        // custom_weights 키가 빠진 요청은 기존 가중치를 건드리지 않는다
+        if (mypageRequestDTO.hasCustomWeights()) {
+            applyCustomWeights(user, mypageRequestDTO.getCustom_weights());
+        }
         
         // 수정된 사용자 데이터 저장
         userRepository.save(user);
@@ -194,4 +208,32 @@ public class UserService {
         // 로깅
         log.info("200 : 사용자 {} 마이페이지 수정 성공", user.getEmail());
     }
+
+    // 사용자 지정 가중치 저장. 명시적인 null 이면 해제, 값이 있으면 합이 1이 되도록 정규화
+    private void applyCustomWeights(User user, CustomWeightsDTO weights) {
+        if (weights == null) {
+            user.setWeightCongestion(null);
+            user.setWeightDistance(null);
+            user.setWeightFee(null);
+            user.setWeightRating(null);
+            return;
+        }
+
+        Double[] values = {weights.getCongestion(), weights.getDistance(), weights.getFee(), weights.getRating()};
+        double sum = 0;
+        for (Double v : values) {
+            if (v == null || v < 0 || v.isNaN() || v.isInfinite()) {
+                throw new CustomException("가중치는 0 이상의 숫자 4개(혼잡도, 거리, 요금, 리뷰)여야 합니다.", HttpStatus.BAD_REQUEST);
+            }
+            sum += v;
+        }
+        if (sum <= 0) {
+            throw new CustomException("가중치 합은 0보다 커야 합니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        user.setWeightCongestion(values[0] / sum);
+        user.setWeightDistance(values[1] / sum);
+        user.setWeightFee(values[2] / sum);
+        user.setWeightRating(values[3] / sum);
+    }
 }
@@ -1,110 +1,41 @@
 package capstone.parkingmate.util;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import capstone.parkingmate.dto.CongestionQuery;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.io.*;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class AiModuleCaller {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    // 동시 요청을 묶어 상주 파이썬 워커 풀에 보내는 배치기
+    private final AiPredictionBatcher aiPredictionBatcher;
 
-    //추후 ai 스크립트 경로로 수정
-    private final String scriptPath;
+    // 혼잡도 예측 비동기 호출
+    // 결과는 p_id → 예측 혼잡도(%, 0~100). 예측 불가한 주차장은 결과에서 빠진다.
+    // deadlineMs 안에 끝나지 않으면 TimeoutException 으로 완료된다 (호출 스레드를 막지 않음).
+    public CompletableFuture<Map<Long, Double>> predictCongestionAsync(List<CongestionQuery> queries, long deadlineMs) {
 
-    public AiModuleCaller(
-            @Value("${ai.script.path:/home/t25115/Jongp/ai/src/score.py}") String scriptPath
-    ) {
-        // Normalize to absolute path
-        this.scriptPath = Paths.get(scriptPath).toAbsolutePath().toString();
-        System.out.println("scriptPath = " + scriptPath);
-    }
-
-    public List<Map<String, Object>> callAiModule(List<Map<String, Object>> candidates, double baseLat, double baseLon, int parkingDuration) {
-
-        // 요청 데이터 준비
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("candidates", candidates);
-        payload.put("parking_duration", parkingDuration);
-        payload.put("base_lat", baseLat);
-        payload.put("base_lon", baseLon);
-
-        System.out.println("payload = " + payload);
-
-        ProcessBuilder builder = new ProcessBuilder("python3", "-u", scriptPath);
-        builder.directory(new File("/home/t25115/Jongp/ai/src"));
-
-        // 오류 포함 불러오기(무한대기 방지용)
-        builder.redirectErrorStream(false);
-        Process process = null;
-
-        try {
-            process = builder.start();
+        log.debug("queries = {}", queries.size());
 
-            final InputStream errStream = process.getErrorStream();
-
-            // stderr 읽는 스레드 추가
-            Thread stderrThread = new Thread(() -> {
-                try (BufferedReader errReader = new BufferedReader(
-                        new InputStreamReader(errStream, StandardCharsets.UTF_8))) {
-                    String line;
-                    while ((line = errReader.readLine()) != null) {
-                        log.warn("[AI stderr] {}", line); // 디버깅 메시지 로그로 출력
+        return aiPredictionBatcher.submit(queries)
+                .orTimeout(deadlineMs, TimeUnit.MILLISECONDS)
+                .thenApply(values -> {
+                    Map<Long, Double> predictions = new HashMap<>();
+                    for (int i = 0; i < values.size(); i++) {
+                        if (values.get(i) != null) {
+                            predictions.put(queries.get(i).getLot(), values.get(i));
+                        }
                     }
-                } catch (IOException e) {
-                    log.error("Error reading stderr", e);
-                }
-            });
-            stderrThread.start();
-
-            // Write directly to the process's stdin and close to signal EOF
-            try (OutputStream os = process.getOutputStream()) {
-                objectMapper.writeValue(os, payload);
-            }
-
-            // Read combined stdout and stderr
-            StringBuilder output = new StringBuilder();
-            try (InputStream is = process.getInputStream();
-                 BufferedReader reader = new BufferedReader(
-                         new InputStreamReader(is, StandardCharsets.UTF_8))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    output.append(line);
-                }
-            }
-
-            int exitCode = process.waitFor();
-            if (exitCode != 0) {
-                log.error("AI module exited with code {}. Output: {}", exitCode, output);
-                throw new RuntimeException("AI module error, exit code: " + exitCode);
-            }
-
-            return objectMapper.readValue(
-                    output.toString(),
-                    new TypeReference<List<Map<String, Object>>>() {}
-            );
-
-        } catch (IOException e) {
-            log.error("I/O error during AI module call", e);
-            throw new RuntimeException("AI 모듈 호출 실패: I/O error", e);
-        } catch (InterruptedException e) {
-            log.error("AI module call interrupted", e);
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("AI 모듈 호출 실패: Interrupted", e);
-        } finally {
-            if (process != null) {
-                process.destroyForcibly();
-            }
-        }
+                    return predictions;
+                });
     }
 }
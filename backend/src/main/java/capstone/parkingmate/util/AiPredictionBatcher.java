@@ -0,0 +1,222 @@
+package capstone.parkingmate.util;
+
+import capstone.parkingmate.dto.CongestionQuery;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 동시에 들어온 혼잡도 예측 요청을 짧은 시간 모아 한 번의 워커 호출로 보낸다.
+// 첫 요청 이후 window-ms 동안, 또는 질의 수가 max-queries 에 이를 때까지 모은 뒤
+// 같은 (주차장, 요일, 시간) 질의는 하나로 합쳐 호출하고 결과를 각 요청에 나눠 돌려준다.
+// 보내기 전에 이미 끝난(시간 초과 등) 요청은 빼고, 대기 중인 배치가 max-pending-batches 를 넘으면 즉시 실패시킨다.
+@Slf4j
+@Component
+public class AiPredictionBatcher {
+
+    private final AiWorkerPool aiWorkerPool;
+    private final long windowNanos;
+    private final int maxQueries;
+
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final ThreadPoolExecutor callExecutor;
+    private final Thread collector;
+
+    private final DistributionSummary batchRequests;
+    private final DistributionSummary batchQueries;
+    private final Timer queueWait;
+    private final Counter rejected;
+
+    public AiPredictionBatcher(
+            AiWorkerPool aiWorkerPool,
+            MeterRegistry meterRegistry,
+            @Value("${ai.batch.window-ms:5}") long windowMs,
+            @Value("${ai.batch.max-queries:64}") int maxQueries,
+            @Value("${ai.worker.pool-size:2}") int concurrency,
+            @Value("${ai.batch.max-pending-batches:8}") int maxPendingBatches
+    ) {
+        this.aiWorkerPool = aiWorkerPool;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, windowMs));
+        this.maxQueries = Math.max(1, maxQueries);
+
+        this.batchRequests = DistributionSummary.builder("ai.batch.requests")
+                .description("한 번의 워커 호출로 묶인 요청 수")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchQueries = DistributionSummary.builder("ai.batch.queries")
+                .description("한 번의 워커 호출로 보낸 질의 수 (중복 제거 후)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("ai.batch.queue.wait")
+                .description("요청이 배치로 보내지기까지 기다린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejected = Counter.builder("ai.batch.rejected")
+                .description("대기 배치가 가득 차 바로 실패시킨 요청 수")
+                .register(meterRegistry);
+
+        // 워커 수만큼 배치를 동시에 보낼 수 있다. 대기 배치 수를 제한해 워커가 밀리면 빠르게 실패한다
+        AtomicInteger seq = new AtomicInteger();
+        int threads = Math.max(1, concurrency);
+        this.callExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, maxPendingBatches)), r -> {
+            Thread t = new Thread(r, "ai-batch-call-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        this.collector = new Thread(this::collectLoop, "ai-batch-collector");
+        this.collector.setDaemon(true);
+        this.collector.start();
+    }
+
+    // 질의 목록을 대기열에 넣는다. 결과는 질의 순서대로의 예측 혼잡도(%), 예측 불가면 null
+    public CompletableFuture<List<Double>> submit(List<CongestionQuery> queries) {
+        Pending pending = new Pending(queries);
+        if (queries.isEmpty()) {
+            pending.future.complete(new ArrayList<>());
+        } else {
+            queue.offer(pending);
+        }
+        return pending.future;
+    }
+
+    private void collectLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Pending first = queue.take();
+                if (first.future.isDone()) {
+                    continue;
+                }
+                List<Pending> batch = new ArrayList<>();
+                batch.add(first);
+                int queries = first.queries.size();
+
+                long deadline = System.nanoTime() + windowNanos;
+                while (queries < maxQueries) {
+                    long remaining = deadline - System.nanoTime();
+                    Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    if (next.future.isDone()) {
+                        continue;
+                    }
+                    batch.add(next);
+                    queries += next.queries.size();
+                }
+
+                try {
+                    callExecutor.execute(() -> dispatch(batch));
+                } catch (RejectedExecutionException e) {
+                    rejected.increment(batch.size());
+                    log.warn("AI 예측 배치 대기열 초과, 요청 {}건 실패 처리", batch.size());
+                    RuntimeException failure = new RuntimeException("AI 모듈 호출 실패: 대기 중인 배치 초과");
+                    batch.forEach(p -> p.future.completeExceptionally(failure));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void dispatch(List<Pending> waiting) {
+        // 대기하는 동안 호출 측에서 끝낸(시간 초과·취소) 요청은 보내지 않는다
+        List<Pending> batch = new ArrayList<>(waiting.size());
+        for (Pending p : waiting) {
+            if (!p.future.isDone()) {
+                batch.add(p);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        for (Pending p : batch) {
+            queueWait.record(now - p.enqueuedNanos, TimeUnit.NANOSECONDS);
+        }
+
+        // 같은 질의는 한 번만 보낸다
+        Map<CongestionQuery, Integer> indexByKey = new HashMap<>();
+        List<CongestionQuery> unique = new ArrayList<>();
+        List<int[]> routes = new ArrayList<>(batch.size());
+        for (Pending p : batch) {
+            int[] route = new int[p.queries.size()];
+            for (int i = 0; i < route.length; i++) {
+                CongestionQuery q = p.queries.get(i);
+                Integer idx = indexByKey.get(q);
+                if (idx == null) {
+                    idx = unique.size();
+                    indexByKey.put(q, idx);
+                    unique.add(q);
+                }
+                route[i] = idx;
+            }
+            routes.add(route);
+        }
+
+        batchRequests.record(batch.size());
+        batchQueries.record(unique.size());
+
+        JsonNode result;
+        try {
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("queries", unique);
+            result = aiWorkerPool.call("predict", payload);
+            if (result == null || !result.isArray() || result.size() != unique.size()) {
+                throw new RuntimeException("AI 모듈 오류: 예측 결과 개수 불일치");
+            }
+        } catch (RuntimeException e) {
+            batch.forEach(p -> p.future.completeExceptionally(e));
+            return;
+        }
+
+        for (int b = 0; b < batch.size(); b++) {
+            int[] route = routes.get(b);
+            List<Double> values = new ArrayList<>(route.length);
+            for (int idx : route) {
+                JsonNode node = result.get(idx);
+                values.add(node.isNumber() && !Double.isNaN(node.asDouble()) ? node.asDouble() : null);
+            }
+            batch.get(b).future.complete(values);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        collector.interrupt();
+        callExecutor.shutdownNow();
+        Pending p;
+        while ((p = queue.poll()) != null) {
+            p.future.completeExceptionally(new RuntimeException("AI 모듈 호출 실패: 종료 중"));
+        }
+    }
+
+    private static final class Pending {
+        final List<CongestionQuery> queries;
+        final CompletableFuture<List<Double>> future = new CompletableFuture<>();
+        final long enqueuedNanos = System.nanoTime();
+
+        Pending(List<CongestionQuery> queries) {
+            this.queries = queries;
+        }
+    }
+}
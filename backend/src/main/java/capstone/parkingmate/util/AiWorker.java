@@ -0,0 +1,128 @@
+package capstone.parkingmate.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+
+// score.py --worker 로 띄운 상주 파이썬 프로세스 하나
+// 요청/응답은 4바이트 big-endian 길이 + 본문 프레임으로 주고받는다. 본문은 CBOR(기본) 또는 UTF-8 JSON
+@Slf4j
+class AiWorker {
+
+    private final int workerId;
+    private final Process process;
+    private final DataOutputStream stdin;
+    private final DataInputStream stdout;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService ioExecutor;
+
+    private long nextRequestId = 1L;
+
+    AiWorker(int workerId, String scriptPath, String codec, ObjectMapper objectMapper, ExecutorService ioExecutor) throws IOException {
+        this.workerId = workerId;
+        this.objectMapper = objectMapper;
+        this.ioExecutor = ioExecutor;
+
+        File script = new File(scriptPath);
+        ProcessBuilder builder = new ProcessBuilder("python3", "-u", script.getAbsolutePath(), "--worker", "--codec", codec);
+        builder.directory(script.getParentFile());
+        builder.redirectErrorStream(false);
+
+        this.process = builder.start();
+        this.stdin = new DataOutputStream(new BufferedOutputStream(process.getOutputStream()));
+        this.stdout = new DataInputStream(new BufferedInputStream(process.getInputStream()));
+
+        // stderr 읽는 스레드 (디버깅 메시지 로그로 출력)
+        Thread stderrThread = new Thread(() -> {
+            try (BufferedReader errReader = new BufferedReader(
+                    new InputStreamReader(process.getErrorStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = errReader.readLine()) != null) {
+                    log.debug("[AI worker-{} stderr] {}", workerId, line);
+                }
+            } catch (IOException e) {
+                log.debug("AI worker-{} stderr 종료", workerId);
+            }
+        }, "ai-worker-" + workerId + "-stderr");
+        stderrThread.setDaemon(true);
+        stderrThread.start();
+    }
+
+    int getWorkerId() {
+        return workerId;
+    }
+
+    boolean isAlive() {
+        return process.isAlive();
+    }
+
+    // 요청 한 건 처리. 제한 시간 안에 응답이 없으면 프로세스를 종료하고 예외
+    JsonNode call(String op, Object payload, long timeoutMs) throws IOException, TimeoutException {
+        Map<String, Object> request = new HashMap<>();
+        long id = nextRequestId++;
+        request.put("id", id);
+        request.put("op", op);
+        request.put("payload", payload);
+
+        Future<JsonNode> response = ioExecutor.submit(() -> {
+            writeFrame(objectMapper.writeValueAsBytes(request));
+            return objectMapper.readTree(readFrame());
+        });
+
+        JsonNode node;
+        try {
+            node = response.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            destroy();
+            response.cancel(true);
+            throw e;
+        } catch (InterruptedException e) {
+            destroy();
+            Thread.currentThread().interrupt();
+            throw new IOException("AI 워커 호출 중단", e);
+        } catch (ExecutionException e) {
+            destroy();
+            throw e.getCause() instanceof IOException io ? io : new IOException("AI 워커 호출 실패", e.getCause());
+        }
+
+        if (node.path("id").asLong() != id) {
+            destroy();
+            throw new IOException("AI 워커 응답 순서 불일치 (worker-" + workerId + ")");
+        }
+        if (!node.path("ok").asBoolean(false)) {
+            // 스크립트 내부 오류. 프로세스는 정상이므로 계속 사용
+            throw new AiWorkerException(node.path("error").asText("unknown error"));
+        }
+        return node.get("result");
+    }
+
+    private void writeFrame(byte[] body) throws IOException {
+        stdin.writeInt(body.length);
+        stdin.write(body);
+        stdin.flush();
+    }
+
+    private byte[] readFrame() throws IOException {
+        int length = stdout.readInt();
+        byte[] body = new byte[length];
+        stdout.readFully(body);
+        return body;
+    }
+
+    void destroy() {
+        process.destroyForcibly();
+    }
+
+    // 파이썬 쪽에서 요청 처리 중 발생한 오류
+    static class AiWorkerException extends IOException {
+        AiWorkerException(String message) {
+            super(message);
+        }
+    }
+}
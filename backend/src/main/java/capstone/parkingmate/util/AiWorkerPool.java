@@ -0,0 +1,206 @@
+package capstone.parkingmate.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 상주 파이썬 점수 계산 워커 풀
+// 파이썬이 예측을 맡을 때만 부팅 시 워커를 띄워 모델/데이터를 미리 적재하고, 죽은 워커는 다시 띄운다.
+// 예측표나 JVM 모델이 준비돼 있으면 워커를 띄우지 않고, 첫 호출이 들어올 때 시작한다.
+@Slf4j
+@Component
+public class AiWorkerPool {
+
+    private final CongestionForecastTable forecastTable;
+    private final XgbCongestionPredictor predictor;
+    private final String scriptPath;
+    private final int poolSize;
+    private final long callTimeoutMs;
+    private final long startupTimeoutMs;
+
+    private final String codec;                 // 워커 프레임 본문 형식 (cbor | json)
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<AiWorker> idle = new LinkedBlockingQueue<>();
+    private final AtomicInteger alive = new AtomicInteger();     // 떠 있는 워커 수 (유휴 + 사용 중)
+    private final AtomicInteger starting = new AtomicInteger();  // 시작 중인 워커 수
+    private final AtomicInteger workerSeq = new AtomicInteger();
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private final ExecutorService ioExecutor = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "ai-worker-io");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public AiWorkerPool(
+            CongestionForecastTable forecastTable,
+            XgbCongestionPredictor predictor,
+            @Value("${ai.script.path:/home/t25115/Jongp/ai/src/score.py}") String scriptPath,
+            @Value("${ai.worker.pool-size:2}") int poolSize,
+            @Value("${ai.worker.call-timeout-ms:10000}") long callTimeoutMs,
+            @Value("${ai.worker.startup-timeout-ms:60000}") long startupTimeoutMs,
+            @Value("${ai.worker.codec:cbor}") String codec
+    ) {
+        this.forecastTable = forecastTable;
+        this.predictor = predictor;
+        // Normalize to absolute path
+        this.scriptPath = Paths.get(scriptPath).toAbsolutePath().toString();
+        this.poolSize = Math.max(1, poolSize);
+        this.callTimeoutMs = callTimeoutMs;
+        this.startupTimeoutMs = startupTimeoutMs;
+        this.codec = "json".equalsIgnoreCase(codec) ? "json" : "cbor";
+        this.objectMapper = "cbor".equals(this.codec) ? new ObjectMapper(new CBORFactory()) : new ObjectMapper();
+    }
+
+    // 부팅 시 워밍업. 실패해도 애플리케이션은 뜨고, 헬스 체크가 다시 시도한다.
+    // 두 예측기는 생성자 주입 시점에 이미 로드를 마친 상태다.
+    @PostConstruct
+    public void warmUp() {
+        if (forecastTable.isReady() || predictor.isReady()) {
+            log.info("로컬 혼잡도 예측 사용 중, AI 워커는 첫 호출 때 시작");
+            return;
+        }
+        started.set(true);
+        List<Future<?>> starts = new ArrayList<>();
+        for (int i = 0; i < poolSize; i++) {
+            starts.add(spawnAsync());
+        }
+        for (Future<?> start : starts) {
+            try {
+                start.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                log.error("AI 워커 워밍업 실패", e.getCause());
+            }
+        }
+        log.info("AI 워커 풀 준비 완료 ({}/{})", alive.get(), poolSize);
+    }
+
+    // 요청 한 건을 유휴 워커에 맡긴다
+    public JsonNode call(String op, Object payload) {
+        startIfNeeded();
+        AiWorker worker;
+        try {
+            worker = idle.poll(callTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("AI 모듈 호출 실패: Interrupted", e);
+        }
+        if (worker == null) {
+            throw new RuntimeException("AI 모듈 호출 실패: 사용 가능한 워커 없음");
+        }
+
+        try {
+            JsonNode result = worker.call(op, payload, callTimeoutMs);
+            idle.offer(worker);
+            return result;
+        } catch (AiWorker.AiWorkerException e) {
+            idle.offer(worker);
+            throw new RuntimeException("AI 모듈 오류: " + e.getMessage(), e);
+        } catch (TimeoutException e) {
+            log.error("AI 워커-{} 응답 시간 초과 ({}ms), 재시작", worker.getWorkerId(), callTimeoutMs);
+            replace(worker);
+            throw new RuntimeException("AI 모듈 호출 실패: timeout", e);
+        } catch (IOException e) {
+            log.error("AI 워커-{} 호출 실패, 재시작", worker.getWorkerId(), e);
+            replace(worker);
+            throw new RuntimeException("AI 모듈 호출 실패: I/O error", e);
+        }
+    }
+
+    // 유휴 워커 헬스 체크 및 부족한 워커 보충 (워커를 시작한 뒤부터)
+    @Scheduled(fixedDelayString = "${ai.worker.health-check-interval-ms:30000}")
+    public void healthCheck() {
+        if (!started.get()) {
+            return;
+        }
+        int checks = idle.size();
+        for (int i = 0; i < checks; i++) {
+            AiWorker worker = idle.poll();
+            if (worker == null) {
+                break;
+            }
+            try {
+                worker.call("ping", null, callTimeoutMs);
+                idle.offer(worker);
+            } catch (Exception e) {
+                log.warn("AI 워커-{} 헬스 체크 실패, 재시작: {}", worker.getWorkerId(), e.getMessage());
+                replace(worker);
+            }
+        }
+
+        while (alive.get() + starting.get() < poolSize) {
+            spawnAsync();
+        }
+    }
+
+    // 워밍업을 건너뛴 경우 첫 호출에서 워커를 띄운다. 시작을 기다리는 동안은 call 의 대기 시간이 적용된다
+    private void startIfNeeded() {
+        if (started.compareAndSet(false, true)) {
+            log.info("AI 워커 풀 시작 ({}개)", poolSize);
+            for (int i = 0; i < poolSize; i++) {
+                spawnAsync();
+            }
+        }
+    }
+
+    private void replace(AiWorker worker) {
+        worker.destroy();
+        alive.decrementAndGet();
+        spawnAsync();
+    }
+
+    private Future<?> spawnAsync() {
+        starting.incrementAndGet();
+        return ioExecutor.submit(() -> {
+            try {
+                spawn();
+            } finally {
+                starting.decrementAndGet();
+            }
+        });
+    }
+
+    // 새 워커를 띄우고 ping 응답(모델 적재 완료)을 확인한 뒤 유휴 큐에 넣는다
+    private void spawn() {
+        int id = workerSeq.incrementAndGet();
+        AiWorker worker = null;
+        try {
+            worker = new AiWorker(id, scriptPath, codec, objectMapper, ioExecutor);
+            worker.call("ping", null, startupTimeoutMs);
+            alive.incrementAndGet();
+            idle.offer(worker);
+            log.info("AI 워커-{} 시작", id);
+        } catch (Exception e) {
+            if (worker != null) {
+                worker.destroy();
+            }
+            log.error("AI 워커-{} 시작 실패: {}", id, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        AiWorker worker;
+        while ((worker = idle.poll()) != null) {
+            worker.destroy();
+        }
+        ioExecutor.shutdownNow();
+    }
+}
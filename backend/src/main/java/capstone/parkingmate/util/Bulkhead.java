@@ -0,0 +1,81 @@
+package capstone.parkingmate.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 동시 실행 수 제한 + 제한된 대기열
+// 실행 중인 요청이 maxConcurrent 개면 최대 maxQueue 개까지 maxWaitMs 동안 기다리고, 그 이상은 바로 거절한다.
+public class Bulkhead {
+
+    private final String name;
+    private final Semaphore permits;
+    private final int maxQueue;
+    private final long maxWaitMs;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedTimeout;
+
+    public Bulkhead(String name, int maxConcurrent, int maxQueue, long maxWaitMs, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.permits = new Semaphore(Math.max(1, maxConcurrent), true);
+        this.maxQueue = Math.max(0, maxQueue);
+        this.maxWaitMs = maxWaitMs;
+
+        Gauge.builder("bulkhead.queue.depth", waiting, AtomicInteger::get)
+                .description("실행 대기 중인 요청 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.active", permits, p -> Math.max(1, maxConcurrent) - p.availablePermits())
+                .description("실행 중인 요청 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.rejectedQueueFull = Counter.builder("bulkhead.rejected")
+                .description("거절된 요청 수")
+                .tag("name", name)
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.rejectedTimeout = Counter.builder("bulkhead.rejected")
+                .description("거절된 요청 수")
+                .tag("name", name)
+                .tag("reason", "wait_timeout")
+                .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // 실행 권한 획득. 성공하면 반드시 release() 를 호출해야 한다.
+    public boolean tryAcquire() {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+
+        if (waiting.incrementAndGet() > maxQueue) {
+            waiting.decrementAndGet();
+            rejectedQueueFull.increment();
+            return false;
+        }
+        try {
+            if (permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            rejectedTimeout.increment();
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+}
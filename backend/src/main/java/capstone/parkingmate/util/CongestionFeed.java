@@ -0,0 +1,19 @@
+package capstone.parkingmate.util;
+
+import capstone.parkingmate.dto.CongestionDTO;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Function;
+
+// 혼잡도 원천 데이터 공급자 (실시간 API 또는 녹화본 재생)
+public interface CongestionFeed {
+
+    // 전체 주차장 혼잡도 수집. pidResolver로 p_id를 붙이고 매핑되지 않는 행은 제외한다.
+    default List<CongestionDTO> fetchAll(Function<String, Long> pidResolver) throws IOException {
+        return fetchAll(pidResolver, false);
+    }
+
+    // keepUnmapped 면 매핑되지 않는 행도 p_id == null 로 남긴다 (녹화용)
+    List<CongestionDTO> fetchAll(Function<String, Long> pidResolver, boolean keepUnmapped) throws IOException;
+}
@@ -0,0 +1,220 @@
+package capstone.parkingmate.util;
+
+import capstone.parkingmate.CongestionApiParser;
+import capstone.parkingmate.dto.CongestionDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+
+// 서울시 GetParkingInfo 피드 수집기
+// 첫 페이지에서 전체 행 수를 확인한 뒤 나머지 페이지를 동시에 요청하고, 실패한 페이지만 재시도한다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "congestion.feed.mode", havingValue = "live", matchIfMissing = true)
+public class CongestionFeedClient implements CongestionFeed {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private final String baseUrl;
+    private final Duration readTimeout;
+    private final Duration fetchBudget;   // 전체 수집에 허용하는 최대 시간
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+
+    private final HttpClient httpClient;
+    private final ExecutorService pagePool;
+
+    public CongestionFeedClient(
+            @Value("${congestion.api.base-url:http://openapi.seoul.go.kr:8088/4a62524852746b7336395852546864/xml/GetParkingInfo}") String baseUrl,
+            @Value("${congestion.api.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${congestion.api.read-timeout-ms:5000}") long readTimeoutMs,
+            @Value("${congestion.api.fetch-budget-ms:15000}") long fetchBudgetMs,
+            @Value("${congestion.api.max-attempts:3}") int maxAttempts,
+            @Value("${congestion.api.retry-backoff-ms:200}") long retryBackoffMs,
+            @Value("${congestion.api.parallelism:4}") int parallelism
+    ) {
+        this.baseUrl = baseUrl;
+        this.readTimeout = Duration.ofMillis(readTimeoutMs);
+        this.fetchBudget = Duration.ofMillis(fetchBudgetMs);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMs = retryBackoffMs;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.pagePool = Executors.newFixedThreadPool(Math.max(1, parallelism), r -> {
+            Thread t = new Thread(r, "congestion-page-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        // 연결은 HttpClient가 keep-alive로 재사용한다
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    // 전체 피드 수집. 한 페이지라도 재시도 끝에 실패하거나 시간 예산을 넘기면 IOException
+    @Override
+    public List<CongestionDTO> fetchAll(Function<String, Long> pidResolver, boolean keepUnmapped) throws IOException {
+        long deadline = System.nanoTime() + fetchBudget.toNanos();
+
+        List<CongestionDTO> firstRows = new ArrayList<>();
+        CongestionApiParser.PageResult first = fetchPageWithRetry(1, pidResolver, keepUnmapped, firstRows, deadline);
+
+        // 전체 행 수를 알 수 없으면 첫 페이지만 사용
+        int totalCount = first.getTotalCount();
+        if (totalCount <= PAGE_SIZE) {
+            return firstRows;
+        }
+
+        List<CompletableFuture<List<CongestionDTO>>> pages = new ArrayList<>();
+        for (int start = 1 + PAGE_SIZE; start <= totalCount; start += PAGE_SIZE) {
+            final int pageStart = start;
+            pages.add(CompletableFuture.supplyAsync(() -> {
+                List<CongestionDTO> rows = new ArrayList<>();
+                try {
+                    fetchPageWithRetry(pageStart, pidResolver, keepUnmapped, rows, deadline);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+                return rows;
+            }, pagePool));
+        }
+
+        List<CongestionDTO> result = new ArrayList<>(firstRows);
+        try {
+            for (CompletableFuture<List<CongestionDTO>> page : pages) {
+                result.addAll(page.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            }
+        } catch (TimeoutException e) {
+            pages.forEach(p -> p.cancel(true));
+            throw new IOException("혼잡도 수집 시간 예산 초과 (" + fetchBudget.toMillis() + "ms)");
+        } catch (ExecutionException e) {
+            pages.forEach(p -> p.cancel(true));
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            throw cause instanceof IOException io ? io : new IOException("혼잡도 페이지 수집 실패", cause);
+        } catch (InterruptedException e) {
+            pages.forEach(p -> p.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IOException("혼잡도 수집 중단", e);
+        }
+
+        return result;
+    }
+
+    // 페이지 단위 재시도 (지수 백오프 + full jitter)
+    private CongestionApiParser.PageResult fetchPageWithRetry(int start, Function<String, Long> pidResolver,
+                                                             boolean keepUnmapped, List<CongestionDTO> sink,
+                                                             long deadline) throws IOException {
+        int end = start + PAGE_SIZE - 1;
+        IOException last = null;
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                throw new IOException("혼잡도 수집 시간 예산 초과 (" + fetchBudget.toMillis() + "ms)");
+            }
+
+            List<CongestionDTO> rows = new ArrayList<>();
+            try {
+                Duration timeout = readTimeout.compareTo(Duration.ofNanos(remainingNanos)) < 0
+                        ? readTimeout
+                        : Duration.ofNanos(remainingNanos);
+                CongestionApiParser.PageResult result =
+                        fetchPage(start, end, pidResolver, keepUnmapped, rows, timeout);
+                sink.addAll(rows);
+                return result;
+            } catch (IOException e) {
+                last = e;
+                log.warn("혼잡도 페이지 {}~{} 수집 실패 ({}/{}): {}", start, end, attempt, maxAttempts, e.getMessage());
+            }
+
+            if (attempt < maxAttempts) {
+                sleepWithJitter(attempt, deadline);
+            }
+        }
+
+        throw last;
+    }
+
+    private CongestionApiParser.PageResult fetchPage(int start, int end, Function<String, Long> pidResolver,
+                                                    boolean keepUnmapped, List<CongestionDTO> sink,
+                                                    Duration timeout) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/" + start + "/" + end))
+                .timeout(timeout)
+                .header("Accept-Encoding", "gzip")
+                .GET()
+                .build();
+
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("혼잡도 페이지 요청 중단", e);
+        }
+
+        try (InputStream body = decode(response)) {
+            if (response.statusCode() != 200) {
+                throw new IOException("HTTP " + response.statusCode());
+            }
+            CongestionApiParser.PageResult result =
+                    CongestionApiParser.parsePage(body, pidResolver, !keepUnmapped, sink::add);
+            // 오류 응답(RESULT 코드만 있고 list_total_count 없음)은 실패로 보고 재시도
+            if (result.getTotalCount() < 0 && result.getRowCount() == 0) {
+                throw new IOException("혼잡도 응답에 데이터 없음");
+            }
+            return result;
+        } catch (XMLStreamException e) {
+            throw new IOException("XML 파싱 실패", e);
+        }
+    }
+
+    private InputStream decode(HttpResponse<InputStream> response) throws IOException {
+        boolean gzip = response.headers().firstValue("Content-Encoding")
+                .map(v -> v.equalsIgnoreCase("gzip"))
+                .orElse(false);
+        return gzip ? new GZIPInputStream(response.body()) : response.body();
+    }
+
+    private void sleepWithJitter(int attempt, long deadline) throws IOException {
+        long ceiling = retryBackoffMs << (attempt - 1);
+        long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        try {
+            Thread.sleep(Math.max(0L, Math.min(remainingMs, ThreadLocalRandom.current().nextLong(ceiling + 1))));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("혼잡도 재시도 대기 중단", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pagePool.shutdownNow();
+    }
+}
@@ -0,0 +1,154 @@
+package capstone.parkingmate.util;
+
+import capstone.parkingmate.event.CongestionForecastReloadedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.Map;
+
+// 미리 계산된 주차장 × 요일 × 시간 혼잡도 예측표 (ai/src/export_forecast.py 산출물)
+// 파일을 메모리 매핑해 두고 예측은 배열 인덱스 조회로 끝낸다. 파일이 교체되면 다시 매핑하고
+// CongestionForecastReloadedEvent 를 발행해 예측값을 담고 있는 캐시를 비우게 한다.
+//
+// 파일 포맷 (big-endian)
+//   magic(int) | 주차장 수(int) | 주차장당 칸 수(int, 7 × 24)
+//   | 주차장 × [ 이름(short+UTF-8) ] | 4바이트 정렬 패딩
+//   | float[주차장 × 7 × 24] (인덱스 = (주차장 * 7 + 요일) * 24 + 시간)
+@Slf4j
+@Component
+public class CongestionForecastTable {
+
+    private static final int MAGIC = 0x43474631; // "CGF1"
+    private static final int CELLS = 7 * 24;
+
+    private final Path tablePath;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Table table;
+
+    public CongestionForecastTable(
+            @Value("${ai.forecast.path:/home/t25115/Jongp/ai/src/congestion_forecast.bin}") String tablePath,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.tablePath = Paths.get(tablePath).toAbsolutePath();
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    public void load() {
+        reloadIfChanged();
+    }
+
+    // 새 모델 학습 후 export_forecast.py 가 파일을 교체하면 다음 점검 때 반영
+    @Scheduled(initialDelayString = "${ai.forecast.reload-interval-ms:60000}",
+            fixedDelayString = "${ai.forecast.reload-interval-ms:60000}")
+    public void reloadIfChanged() {
+        if (!Files.isReadable(tablePath)) {
+            if (table == null) {
+                log.warn("혼잡도 예측표 파일 없음: {}", tablePath);
+            }
+            return;
+        }
+
+        try {
+            FileTime modified = Files.getLastModifiedTime(tablePath);
+            Table current = table;
+            if (current != null && current.modified.equals(modified)) {
+                return;
+            }
+            Table next = Table.map(tablePath, modified);
+            table = next;
+            log.info("혼잡도 예측표 {}: 주차장 {}개 ({})",
+                    current == null ? "로드" : "갱신", next.lots, modified);
+            eventPublisher.publishEvent(new CongestionForecastReloadedEvent(next.lots));
+        } catch (IOException e) {
+            // 기존 표가 있으면 그대로 사용
+            log.error("혼잡도 예측표 로드 실패: {}", tablePath, e);
+        }
+    }
+
+    public boolean isReady() {
+        return table != null;
+    }
+
+    // 혼잡도(%, 0~100) 조회. 표가 없거나 모르는 주차장이면 NaN
+    // 외부에서 만든 파일이므로 범위를 벗어난 값은 읽을 때 잘라낸다.
+    // weekday는 score.py와 같은 1~7 입력 (내부에서 (weekday - 1) % 7 로 변환)
+    public double lookup(String name, int weekday, int hour) {
+        Table t = table;
+        if (t == null || name == null || hour < 0 || hour > 23) {
+            return Double.NaN;
+        }
+        // 표의 이름과 그대로 같으면 정규화 없이 찾는다
+        Integer lot = t.lotIndex.get(name);
+        if (lot == null) {
+            lot = t.lotIndex.get(XgbCongestionPredictor.normalize(name));
+        }
+        if (lot == null) {
+            return Double.NaN;
+        }
+        double value = t.values.get((lot * 7 + Math.floorMod(weekday - 1, 7)) * 24 + hour);
+        return Double.isNaN(value) ? Double.NaN : Math.max(0.0, Math.min(100.0, value));
+    }
+
+    private static final class Table {
+        final FileTime modified;
+        final int lots;
+        final Map<String, Integer> lotIndex;
+        final FloatBuffer values;
+
+        private Table(FileTime modified, int lots, Map<String, Integer> lotIndex, FloatBuffer values) {
+            this.modified = modified;
+            this.lots = lots;
+            this.lotIndex = lotIndex;
+            this.values = values;
+        }
+
+        static Table map(Path path, FileTime modified) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                // 매핑은 채널을 닫아도 유지된다
+                MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+                if (buf.remaining() < 12 || buf.getInt() != MAGIC) {
+                    throw new IOException("잘못된 혼잡도 예측표 파일: " + path);
+                }
+                int lots = buf.getInt();
+                if (buf.getInt() != CELLS) {
+                    throw new IOException("지원하지 않는 예측표 칸 수: " + path);
+                }
+
+                // 원래 이름과 정규화한 이름을 모두 넣어 둔다 (정규화는 로드할 때 한 번)
+                Map<String, Integer> lotIndex = new HashMap<>(lots * 4);
+                for (int l = 0; l < lots; l++) {
+                    byte[] bytes = new byte[Short.toUnsignedInt(buf.getShort())];
+                    buf.get(bytes);
+                    String name = new String(bytes, StandardCharsets.UTF_8);
+                    lotIndex.putIfAbsent(name, l);
+                    lotIndex.putIfAbsent(XgbCongestionPredictor.normalize(name), l);
+                }
+                buf.position((buf.position() + 3) & ~3);
+
+                if (buf.remaining() < (long) lots * CELLS * Float.BYTES) {
+                    throw new IOException("혼잡도 예측표가 잘려 있음: " + path);
+                }
+                FloatBuffer values = buf.slice().asFloatBuffer();
+                return new Table(modified, lots, lotIndex, values);
+            }
+        }
+    }
+}
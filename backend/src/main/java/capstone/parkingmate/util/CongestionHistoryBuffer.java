@@ -0,0 +1,65 @@
+package capstone.parkingmate.util;
+
+import java.util.Arrays;
+
+// 주차장 하나의 혼잡도 이력을 고정 크기 원형 버퍼로 보관
+// 슬롯 번호(= 시각 / 해상도)를 용량으로 나눈 나머지 위치에 기록하므로 오래된 값은 자연스럽게 덮어써진다.
+public class CongestionHistoryBuffer {
+
+    private final int capacity;
+    private final long[] slots;        // 기록된 슬롯 번호 (-1 이면 비어 있음)
+    private final int[] currentVehicles;
+    private final int[] totalSpaces;
+
+    public CongestionHistoryBuffer(int capacity) {
+        this.capacity = capacity;
+        this.slots = new long[capacity];
+        this.currentVehicles = new int[capacity];
+        this.totalSpaces = new int[capacity];
+        Arrays.fill(slots, -1L);
+    }
+
+    // 같은 슬롯에 여러 번 기록되면 마지막 값이 남는다
+    public synchronized void record(long slot, int current, int total) {
+        int idx = (int) Math.floorMod(slot, (long) capacity);
+        slots[idx] = slot;
+        currentVehicles[idx] = current;
+        totalSpaces[idx] = total;
+    }
+
+    // latestSlot 기준 최근 capacity 개 슬롯을 points 개 구간으로 나눠 평균을 낸다.
+    // 결과 배열은 [구간][0: 시작 슬롯, 1: 평균 주차 대수, 2: 평균 총 면수], 비어 있는 구간은 제외
+    public synchronized double[][] downsample(long latestSlot, int points) {
+        int buckets = Math.max(1, Math.min(points, capacity));
+        long firstSlot = latestSlot - capacity + 1;
+
+        double[] sumCurrent = new double[buckets];
+        double[] sumTotal = new double[buckets];
+        int[] counts = new int[buckets];
+
+        for (int i = 0; i < capacity; i++) {
+            long slot = slots[i];
+            if (slot < firstSlot || slot > latestSlot) {
+                continue;
+            }
+            int bucket = (int) ((slot - firstSlot) * buckets / capacity);
+            sumCurrent[bucket] += currentVehicles[i];
+            sumTotal[bucket] += totalSpaces[i];
+            counts[bucket]++;
+        }
+
+        int nonEmpty = 0;
+        for (int count : counts) {
+            if (count > 0) nonEmpty++;
+        }
+
+        double[][] result = new double[nonEmpty][];
+        int r = 0;
+        for (int b = 0; b < buckets; b++) {
+            if (counts[b] == 0) continue;
+            long bucketStart = firstSlot + ((long) b * capacity + buckets - 1) / buckets;
+            result[r++] = new double[]{bucketStart, sumCurrent[b] / counts[b], sumTotal[b] / counts[b]};
+        }
+        return result;
+    }
+}
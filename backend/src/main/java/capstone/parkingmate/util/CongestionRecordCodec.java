@@ -0,0 +1,118 @@
+package capstone.parkingmate.util;
+
+import capstone.parkingmate.dto.CongestionDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+// 혼잡도 녹화 파일 포맷. 수집한 원본 행을 p_id 매핑 전 그대로 기록한다.
+// 레코드: magic(int) | fetchedAt(long, epoch millis) | count(int)
+//        | count × [ total(int) | current(int) | nameLength(short) | name(UTF-8) ]
+// 이전 포맷(CNG1: 헤더에 version, 행마다 p_id 포함)도 읽을 수 있으며 이때 p_id 는 무시한다.
+public final class CongestionRecordCodec {
+
+    private static final int MAGIC = 0x434E4732;        // "CNG2"
+    private static final int MAGIC_V1 = 0x434E4731;     // "CNG1"
+    private static final int HEADER_BYTES = 4 + 8 + 4;
+    private static final int ROW_FIXED_BYTES = 4 + 4 + 2;
+
+    private CongestionRecordCodec() {
+    }
+
+    public static ByteBuffer encode(Instant fetchedAt, List<CongestionDTO> rows) {
+        byte[][] names = new byte[rows.size()][];
+        int size = HEADER_BYTES;
+        for (int i = 0; i < rows.size(); i++) {
+            String name = rows.get(i).getName();
+            names[i] = name == null ? new byte[0] : name.getBytes(StandardCharsets.UTF_8);
+            size += ROW_FIXED_BYTES + names[i].length;
+        }
+
+        ByteBuffer buf = ByteBuffer.allocate(size);
+        buf.putInt(MAGIC);
+        buf.putLong(fetchedAt.toEpochMilli());
+        buf.putInt(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            CongestionDTO dto = rows.get(i);
+            buf.putInt(dto.getTotal_spaces());
+            buf.putInt(dto.getCurrent_vehicles());
+            buf.putShort((short) names[i].length);
+            buf.put(names[i]);
+        }
+        buf.flip();
+        return buf;
+    }
+
+    // 파일 전체를 메모리 매핑해 순서대로 읽는다. 끝부분이 잘린 레코드는 무시
+    public static List<Record> readAll(Path path) throws IOException {
+        List<Record> result = new ArrayList<>();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            while (buf.remaining() >= HEADER_BYTES) {
+                int recordStart = buf.position();
+                int magic = buf.getInt();
+                if (magic != MAGIC && magic != MAGIC_V1) {
+                    throw new IOException("잘못된 혼잡도 녹화 레코드 (offset=" + recordStart + ")");
+                }
+                boolean v1 = magic == MAGIC_V1;
+                Instant fetchedAt = Instant.ofEpochMilli(buf.getLong());
+                if (v1) {
+                    if (buf.remaining() < 8 + 4) {
+                        break;
+                    }
+                    buf.getLong(); // version
+                }
+                int count = buf.getInt();
+
+                List<CongestionDTO> rows = new ArrayList<>(count);
+                boolean truncated = false;
+                for (int i = 0; i < count; i++) {
+                    if (buf.remaining() < ROW_FIXED_BYTES + (v1 ? 8 : 0)) {
+                        truncated = true;
+                        break;
+                    }
+                    if (v1) {
+                        buf.getLong(); // p_id
+                    }
+                    int total = buf.getInt();
+                    int current = buf.getInt();
+                    int nameLength = Short.toUnsignedInt(buf.getShort());
+                    if (buf.remaining() < nameLength) {
+                        truncated = true;
+                        break;
+                    }
+                    byte[] name = new byte[nameLength];
+                    buf.get(name);
+                    rows.add(new CongestionDTO(new String(name, StandardCharsets.UTF_8), total, current));
+                }
+                if (truncated) {
+                    break;
+                }
+
+                result.add(new Record(fetchedAt, rows));
+            }
+        }
+
+        return result;
+    }
+
+    // 녹화 레코드 하나. rows 의 p_id 는 항상 null
+    @Getter
+    @RequiredArgsConstructor
+    public static class Record {
+        private final Instant fetchedAt;
+        private final List<CongestionDTO> rows;
+    }
+}
@@ -0,0 +1,96 @@
+package capstone.parkingmate.util;
+
+import capstone.parkingmate.dto.CongestionDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+// 녹화된 혼잡도 원본 행을 실시간 API 대신 공급하는 재생기 (congestion.feed.mode=replay)
+// 녹화본에는 p_id 가 없으므로 실시간 수집과 같이 pidResolver 로 주차장명을 매핑한다.
+// speed > 0 이면 녹화 시각 간격을 speed 배로 재생하고, speed <= 0 이면 호출할 때마다 다음 레코드를 돌려준다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "congestion.feed.mode", havingValue = "replay")
+public class CongestionReplayFeed implements CongestionFeed {
+
+    private final List<CongestionRecordCodec.Record> records;
+    private final double speed;
+    private final boolean loop;
+
+    private long replayStartedAt = -1L;
+    private int cursor = 0;
+
+    public CongestionReplayFeed(
+            @Value("${congestion.replay.path:congestion-record.bin}") String path,
+            @Value("${congestion.replay.speed:1.0}") double speed,
+            @Value("${congestion.replay.loop:true}") boolean loop
+    ) throws IOException {
+        this.records = CongestionRecordCodec.readAll(Paths.get(path));
+        this.speed = speed;
+        this.loop = loop;
+
+        if (records.isEmpty()) {
+            throw new IllegalStateException("혼잡도 녹화 파일에 레코드가 없습니다: " + path);
+        }
+        log.info("혼잡도 재생 모드 (레코드={}, 속도={}, 반복={})", records.size(), speed, loop);
+    }
+
+    @Override
+    public synchronized List<CongestionDTO> fetchAll(Function<String, Long> pidResolver, boolean keepUnmapped) {
+        CongestionRecordCodec.Record record = speed > 0 ? recordAtElapsedTime() : nextRecord();
+
+        List<CongestionDTO> rows = new ArrayList<>(record.getRows().size());
+        for (CongestionDTO row : record.getRows()) {
+            Long pid = pidResolver.apply(row.getName());
+            if (pid == null && !keepUnmapped) {
+                continue;
+            }
+            rows.add(new CongestionDTO(row.getName(), row.getTotal_spaces(), row.getCurrent_vehicles(), pid));
+        }
+        return rows;
+    }
+
+    // 단계 재생: 호출마다 다음 레코드
+    private CongestionRecordCodec.Record nextRecord() {
+        if (cursor >= records.size()) {
+            cursor = loop ? 0 : records.size() - 1;
+        }
+        return records.get(cursor++);
+    }
+
+    // 시간 재생: 재생 시작 후 경과 시간 × speed 만큼 진행된 시점의 레코드
+    private CongestionRecordCodec.Record recordAtElapsedTime() {
+        long now = System.currentTimeMillis();
+        if (replayStartedAt < 0) {
+            replayStartedAt = now;
+        }
+
+        long first = records.get(0).getFetchedAt().toEpochMilli();
+        long duration = records.get(records.size() - 1).getFetchedAt().toEpochMilli() - first;
+        long elapsed = (long) ((now - replayStartedAt) * speed);
+        if (loop && duration > 0) {
+            elapsed %= duration + 1;
+        }
+        long target = first + elapsed;
+
+        // 녹화 시각이 target 이하인 마지막 레코드 (이진 탐색)
+        int lo = 0;
+        int hi = records.size() - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (records.get(mid).getFetchedAt().toEpochMilli() <= target) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return records.get(lo);
+    }
+}
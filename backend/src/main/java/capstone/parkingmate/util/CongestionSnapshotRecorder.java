@@ -0,0 +1,63 @@
+package capstone.parkingmate.util;
+
+import capstone.parkingmate.event.CongestionFeedFetchedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+// 수집한 혼잡도 원본 행(p_id 매핑 전, 매핑 실패 행 포함)을 바이너리 파일 끝에 계속 덧붙여 기록 (재생용)
+// 재생 모드에서 녹화하면 녹화본을 다시 녹화하게 되므로 함께 켤 수 없다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "congestion.recorder.enabled", havingValue = "true")
+public class CongestionSnapshotRecorder {
+
+    private final Path path;
+    private final FileChannel channel;
+
+    public CongestionSnapshotRecorder(
+            @Value("${congestion.recorder.path:congestion-record.bin}") String path,
+            @Value("${congestion.feed.mode:live}") String feedMode
+    ) throws IOException {
+        if ("replay".equals(feedMode)) {
+            throw new IllegalStateException(
+                    "congestion.recorder.enabled 와 congestion.feed.mode=replay 는 함께 사용할 수 없습니다.");
+        }
+        this.path = Paths.get(path).toAbsolutePath();
+        if (this.path.getParent() != null) {
+            Files.createDirectories(this.path.getParent());
+        }
+        this.channel = FileChannel.open(this.path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        log.info("혼잡도 스냅샷 녹화 시작: {}", this.path);
+    }
+
+    @EventListener
+    public synchronized void onFeedFetched(CongestionFeedFetchedEvent event) {
+        ByteBuffer record = CongestionRecordCodec.encode(event.getFetchedAt(), event.getRows());
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+        } catch (IOException e) {
+            log.error("혼잡도 원본 녹화 실패 (fetchedAt={}): {}", event.getFetchedAt(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        channel.force(false);
+        channel.close();
+    }
+}
@@ -0,0 +1,46 @@
+package capstone.parkingmate.util;
+
+// 위경도 → geohash 문자열 (base32). 같은 문자열이면 같은 격자 칸
+// 정밀도 6 ≈ 1.2km × 0.6km, 7 ≈ 150m × 150m
+public final class GeoHash {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private GeoHash() {
+    }
+
+    public static String encode(double lat, double lon, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        char[] out = new char[precision];
+        boolean even = true; // 경도부터 번갈아 나눈다
+
+        for (int i = 0; i < precision; i++) {
+            int idx = 0;
+            for (int bit = 0; bit < 5; bit++) {
+                if (even) {
+                    double mid = (minLon + maxLon) / 2;
+                    if (lon >= mid) {
+                        idx = (idx << 1) | 1;
+                        minLon = mid;
+                    } else {
+                        idx <<= 1;
+                        maxLon = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (lat >= mid) {
+                        idx = (idx << 1) | 1;
+                        minLat = mid;
+                    } else {
+                        idx <<= 1;
+                        maxLat = mid;
+                    }
+                }
+                even = !even;
+            }
+            out[i] = BASE32[idx];
+        }
+        return new String(out);
+    }
+}
@@ -0,0 +1,21 @@
+package capstone.parkingmate.util;
+
+public final class GeoUtils {
+
+    private static final double EARTH_RADIUS_KM = 6371.0; // 지구 반지름 (km)
+
+    private GeoUtils() {
+    }
+
+    // 거리 계산 메서드 (km)
+    public static double haversine(double lat1, double lon1, double lat2, double lon2) {
+        double phi1 = Math.toRadians(lat1);
+        double phi2 = Math.toRadians(lat2);
+        double dphi = Math.toRadians(lat2 - lat1);
+        double dlambda = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dphi/2)*Math.sin(dphi/2)
+                + Math.cos(phi1)*Math.cos(phi2)
+                * Math.sin(dlambda/2)*Math.sin(dlambda/2);
+        return EARTH_RADIUS_KM * 2 * Math.asin(Math.sqrt(a));
+    }
+}
@@ -0,0 +1,269 @@
+package capstone.parkingmate.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 위경도 점 집합에 대한 불변 k-d 트리
+// 점을 단위 구 위의 3차원 좌표로 바꿔 저장하므로, 현(chord) 거리 순서가 대원 거리 순서와 같아
+// 최근접·반경 검색 결과가 ST_Distance_Sphere 기준과 일치한다. 트리는 배열 하나에 암묵적으로 담긴다.
+public final class SpatialIndex {
+
+    private static final double EARTH_RADIUS_M = 6371000.0;
+
+    private final long[] ids;
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] zs;
+    private final byte[] axes;   // 노드별 분할 축 (0: x, 1: y, 2: z)
+
+    private SpatialIndex(long[] ids, double[] xs, double[] ys, double[] zs, byte[] axes) {
+        this.ids = ids;
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+        this.axes = axes;
+    }
+
+    public static SpatialIndex build(long[] ids, double[] lats, double[] lons) {
+        int n = ids.length;
+        long[] tid = ids.clone();
+        double[] x = new double[n], y = new double[n], z = new double[n];
+        for (int i = 0; i < n; i++) {
+            double lat = Math.toRadians(lats[i]);
+            double lon = Math.toRadians(lons[i]);
+            x[i] = Math.cos(lat) * Math.cos(lon);
+            y[i] = Math.cos(lat) * Math.sin(lon);
+            z[i] = Math.sin(lat);
+        }
+        SpatialIndex index = new SpatialIndex(tid, x, y, z, new byte[n]);
+        index.buildRange(0, n);
+        return index;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    // 가까운 순서로 최대 k개의 id
+    public List<Long> nearest(double lat, double lon, int k) {
+        int limit = Math.min(k, ids.length);
+        List<Long> result = new ArrayList<>(Math.max(0, limit));
+        if (limit <= 0) {
+            return result;
+        }
+        double[] q = toUnit(lat, lon);
+
+        // 거리 내림차순 최대 힙 (루트가 현재 k번째로 가까운 점)
+        Heap heap = new Heap(limit);
+        searchNearest(0, ids.length, q, heap);
+
+        long[] sorted = heap.drainAscending();
+        for (long id : sorted) {
+            result.add(id);
+        }
+        return result;
+    }
+
+    // 반경(m) 안의 id (순서 없음)
+    public List<Long> withinRadius(double lat, double lon, double radiusMeters) {
+        List<Long> result = new ArrayList<>();
+        if (ids.length == 0 || radiusMeters < 0) {
+            return result;
+        }
+        double[] q = toUnit(lat, lon);
+        double theta = Math.min(Math.PI, radiusMeters / EARTH_RADIUS_M);
+        double chord = 2 * Math.sin(theta / 2);
+        searchRadius(0, ids.length, q, chord * chord, result);
+        return result;
+    }
+
+    // [from, to) 구간의 가운데 원소를 노드로 두고 양쪽을 재귀적으로 분할
+    private void buildRange(int from, int to) {
+        if (to - from <= 1) {
+            return;
+        }
+        int axis = widestAxis(from, to);
+        int mid = (from + to) >>> 1;
+        select(from, to - 1, mid, axis);
+        axes[mid] = (byte) axis;
+        buildRange(from, mid);
+        buildRange(mid + 1, to);
+    }
+
+    private void searchNearest(int from, int to, double[] q, Heap heap) {
+        if (from >= to) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        heap.offer(ids[mid], dist2(mid, q));
+
+        if (to - from == 1) {
+            return;
+        }
+        double diff = q[axes[mid]] - coord(mid, axes[mid]);
+        boolean leftFirst = diff < 0;
+        if (leftFirst) {
+            searchNearest(from, mid, q, heap);
+            if (!heap.isFull() || diff * diff < heap.worst()) {
+                searchNearest(mid + 1, to, q, heap);
+            }
+        } else {
+            searchNearest(mid + 1, to, q, heap);
+            if (!heap.isFull() || diff * diff < heap.worst()) {
+                searchNearest(from, mid, q, heap);
+            }
+        }
+    }
+
+    private void searchRadius(int from, int to, double[] q, double maxDist2, List<Long> out) {
+        if (from >= to) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        if (dist2(mid, q) <= maxDist2) {
+            out.add(ids[mid]);
+        }
+        if (to - from == 1) {
+            return;
+        }
+        double diff = q[axes[mid]] - coord(mid, axes[mid]);
+        if (diff < 0 || diff * diff <= maxDist2) {
+            searchRadius(from, mid, q, maxDist2, out);
+        }
+        if (diff >= 0 || diff * diff <= maxDist2) {
+            searchRadius(mid + 1, to, q, maxDist2, out);
+        }
+    }
+
+    private double dist2(int i, double[] q) {
+        double dx = xs[i] - q[0], dy = ys[i] - q[1], dz = zs[i] - q[2];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private double coord(int i, int axis) {
+        return axis == 0 ? xs[i] : axis == 1 ? ys[i] : zs[i];
+    }
+
+    private int widestAxis(int from, int to) {
+        double[] min = {Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE};
+        double[] max = {-Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE};
+        for (int i = from; i < to; i++) {
+            for (int a = 0; a < 3; a++) {
+                double c = coord(i, a);
+                min[a] = Math.min(min[a], c);
+                max[a] = Math.max(max[a], c);
+            }
+        }
+        int best = 0;
+        for (int a = 1; a < 3; a++) {
+            if (max[a] - min[a] > max[best] - min[best]) {
+                best = a;
+            }
+        }
+        return best;
+    }
+
+    // quickselect: k번째 원소가 제자리에 오도록 [lo, hi] 구간을 부분 정렬
+    private void select(int lo, int hi, int k, int axis) {
+        while (hi > lo) {
+            double pivot = coord((lo + hi) >>> 1, axis);
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (coord(i, axis) < pivot) i++;
+                while (coord(j, axis) > pivot) j--;
+                if (i <= j) {
+                    swap(i++, j--);
+                }
+            }
+            if (k <= j) {
+                hi = j;
+            } else if (k >= i) {
+                lo = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(int a, int b) {
+        long id = ids[a]; ids[a] = ids[b]; ids[b] = id;
+        double t = xs[a]; xs[a] = xs[b]; xs[b] = t;
+        t = ys[a]; ys[a] = ys[b]; ys[b] = t;
+        t = zs[a]; zs[a] = zs[b]; zs[b] = t;
+    }
+
+    private static double[] toUnit(double latDeg, double lonDeg) {
+        double lat = Math.toRadians(latDeg);
+        double lon = Math.toRadians(lonDeg);
+        return new double[]{Math.cos(lat) * Math.cos(lon), Math.cos(lat) * Math.sin(lon), Math.sin(lat)};
+    }
+
+    // 크기가 고정된 최대 힙 (거리 기준)
+    private static final class Heap {
+        final long[] ids;
+        final double[] dists;
+        int size;
+
+        Heap(int capacity) {
+            ids = new long[capacity];
+            dists = new double[capacity];
+        }
+
+        boolean isFull() {
+            return size == ids.length;
+        }
+
+        double worst() {
+            return dists[0];
+        }
+
+        void offer(long id, double dist) {
+            if (size < ids.length) {
+                ids[size] = id;
+                dists[size] = dist;
+                siftUp(size++);
+            } else if (dist < dists[0]) {
+                ids[0] = id;
+                dists[0] = dist;
+                siftDown(0);
+            }
+        }
+
+        long[] drainAscending() {
+            long[] out = new long[size];
+            for (int i = size - 1; i >= 0; i--) {
+                out[i] = ids[0];
+                size--;
+                ids[0] = ids[size];
+                dists[0] = dists[size];
+                siftDown(0);
+            }
+            return out;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (dists[parent] >= dists[i]) break;
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int l = 2 * i + 1, r = l + 1, largest = i;
+                if (l < size && dists[l] > dists[largest]) largest = l;
+                if (r < size && dists[r] > dists[largest]) largest = r;
+                if (largest == i) return;
+                swap(i, largest);
+                i = largest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long id = ids[a]; ids[a] = ids[b]; ids[b] = id;
+            double d = dists[a]; dists[a] = dists[b]; dists[b] = d;
+        }
+    }
+}
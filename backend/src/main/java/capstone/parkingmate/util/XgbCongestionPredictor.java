@@ -0,0 +1,279 @@
+package capstone.parkingmate.util;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// score.py predict_congestion 의 JVM 구현
+// ai/src/export_model.py 가 내보낸 트리 앙상블·스케일러·주차장별 평균 특징값을 부팅 시 한 번 읽어 두고,
+// 예측 시에는 평평한 기본형 배열만 순회한다 (예측 한 건당 객체 할당 없음).
+//
+// 파일 포맷 (big-endian)
+//   magic(int) | 특징 수(int) | 특징 × [ 이름(short+UTF-8) | 입력 위치(int) | 종류(int) | 종류별 파라미터 ]
+//   | base_score(float) | 트리 수(int) | 노드 수(int) | 트리 루트(int × 트리 수)
+//   | 노드 × [ 특징(int, 리프 -1) | 분기값(float) | yes(int) | no(int) | missing(int) | 리프값(float) ]
+//   | 주차장 수(int) | 주차장 × [ 이름 | 전체 평균(6 double) | 요일 7 × 시간 24 × 평균(6 double, 없으면 NaN) ]
+//   | 검증 샘플 수(int) | 샘플 × [ 주차장 인덱스(int) | weekday(int) | hour(int) | 파이썬 예측값(double) ]
+@Slf4j
+@Component
+public class XgbCongestionPredictor {
+
+    private static final int MAGIC = 0x43474D31; // "CGM1"
+    private static final int AVG_COLUMNS = 6;    // 주차면수, 입차대수, 출차대수, 지난주/지지난주/지지지난주 혼잡도
+    private static final int SRC_HOUR = AVG_COLUMNS;
+    private static final int SRC_WEEKDAY = AVG_COLUMNS + 1;
+    private static final int KIND_SCALED = 0;
+    private static final int KIND_ORDINAL = 1;
+    private static final int CELLS = 7 * 24;
+
+    private final Path modelPath;
+    private final double parityTolerance;
+
+    // 교체 시 통째로 바뀌도록 불변 모델 하나로 묶어 둔다
+    private volatile Model model;
+
+    public XgbCongestionPredictor(
+            @Value("${ai.model.path:/home/t25115/Jongp/ai/src/congestion_model.bin}") String modelPath,
+            @Value("${ai.model.parity-tolerance:0.01}") double parityTolerance
+    ) {
+        this.modelPath = Paths.get(modelPath).toAbsolutePath();
+        this.parityTolerance = parityTolerance;
+    }
+
+    // 모델 파일이 없거나 검증에 실패하면 비활성 상태로 두고, 호출 측은 파이썬 워커로 대체한다.
+    @PostConstruct
+    public void load() {
+        if (!Files.isReadable(modelPath)) {
+            log.warn("혼잡도 모델 파일 없음, 파이썬 예측 사용: {}", modelPath);
+            return;
+        }
+        try {
+            Model loaded = Model.read(modelPath);
+            double maxError = loaded.verifyParity();
+            if (maxError > parityTolerance) {
+                log.error("혼잡도 모델 검증 실패 (최대 오차 {} > {}), 파이썬 예측 사용", maxError, parityTolerance);
+                return;
+            }
+            model = loaded;
+            log.info("혼잡도 모델 로드 완료: 트리 {}개, 주차장 {}개, 검증 샘플 {}개 최대 오차 {}",
+                    loaded.roots.length, loaded.lotNames.length, loaded.fixtureExpected.length, maxError);
+        } catch (IOException e) {
+            log.error("혼잡도 모델 로드 실패, 파이썬 예측 사용: {}", modelPath, e);
+        }
+    }
+
+    public boolean isReady() {
+        return model != null;
+    }
+
+    // 혼잡도(%) 예측. 모델이 없거나 모르는 주차장이면 NaN
+    // weekday는 score.py와 같은 1~7 입력 (내부에서 (weekday - 1) % 7 로 변환)
+    public double predict(String name, int weekday, int hour) {
+        return predict(lotIndexOf(name), weekday, hour);
+    }
+
+    // 미리 찾아 둔 주차장 인덱스로 예측 (할당 없음). lot 이 범위 밖이면 NaN
+    public double predict(int lot, int weekday, int hour) {
+        Model m = model;
+        if (m == null || lot < 0 || lot >= m.lotNames.length || hour < 0 || hour > 23) {
+            return Double.NaN;
+        }
+        return m.predict(lot, Math.floorMod(weekday - 1, 7), hour);
+    }
+
+    // 주차장명 → 모델 내 인덱스 (없으면 -1)
+    // 내보낸 이름 그대로 먼저 찾고, 없을 때만 공백·대소문자를 정규화해 다시 찾는다.
+    public int lotIndexOf(String name) {
+        Model m = model;
+        if (m == null || name == null) {
+            return -1;
+        }
+        Integer lot = m.lotIndex.get(name);
+        if (lot == null) {
+            lot = m.lotIndex.get(normalize(name));
+        }
+        return lot == null ? -1 : lot;
+    }
+
+    static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Model {
+        // 특징 정의 (fit_columns 순서)
+        int[] featureSource;
+        int[] featureKind;
+        double[] featureMean;
+        double[] featureScale;
+        double[] ordinalMap;     // [특징 * 7 + 요일]
+
+        // 트리 앙상블 (모든 트리의 노드를 이어 붙인 배열, 자식은 전체 배열 기준 인덱스)
+        float baseScore;
+        int[] roots;
+        int[] nodeFeature;
+        float[] nodeSplit;
+        int[] nodeYes;
+        int[] nodeNo;
+        int[] nodeMissing;
+        float[] nodeLeaf;
+
+        // 주차장별 평균 특징값
+        String[] lotNames;
+        Map<String, Integer> lotIndex;   // 원래 이름과 정규화한 이름 모두 등록
+        double[] lotMean;        // [주차장 * 6 + 열]
+        double[] cellMean;       // [((주차장 * 7 + 요일) * 24 + 시간) * 6 + 열]
+
+        // 파이썬 예측값 검증 샘플
+        int[] fixtureLot;
+        int[] fixtureWeekday;
+        int[] fixtureHour;
+        double[] fixtureExpected;
+
+        double predict(int lot, int wd, int hour) {
+            // 셀이 비어 있으면 predict_congestion 과 같이 주차장 전체 평균 사용
+            int cell = ((lot * 7 + wd) * 24 + hour) * AVG_COLUMNS;
+            double[] avg = cellMean;
+            int base = cell;
+            if (Double.isNaN(cellMean[cell])) {
+                avg = lotMean;
+                base = lot * AVG_COLUMNS;
+            }
+
+            float sum = 0f;
+            for (int root : roots) {
+                int node = root;
+                while (nodeFeature[node] >= 0) {
+                    float x = feature(nodeFeature[node], avg, base, wd, hour);
+                    if (Float.isNaN(x)) {
+                        node = nodeMissing[node];
+                    } else {
+                        node = x < nodeSplit[node] ? nodeYes[node] : nodeNo[node];
+                    }
+                }
+                sum += nodeLeaf[node];
+            }
+            return sum + baseScore;
+        }
+
+        // XGBoost는 입력을 float32 로 받으므로 스케일링은 double, 비교는 float
+        private float feature(int f, double[] avg, int base, int wd, int hour) {
+            if (featureKind[f] == KIND_ORDINAL) {
+                return (float) ordinalMap[f * 7 + wd];
+            }
+            int src = featureSource[f];
+            double raw = src == SRC_HOUR ? hour : src == SRC_WEEKDAY ? wd : avg[base + src];
+            return (float) ((raw - featureMean[f]) / featureScale[f]);
+        }
+
+        double verifyParity() {
+            double maxError = 0;
+            for (int i = 0; i < fixtureExpected.length; i++) {
+                double actual = predict(fixtureLot[i], Math.floorMod(fixtureWeekday[i] - 1, 7), fixtureHour[i]);
+                maxError = Math.max(maxError, Math.abs(actual - fixtureExpected[i]));
+            }
+            return maxError;
+        }
+
+        static Model read(Path path) throws IOException {
+            Model m = new Model();
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+                if (in.readInt() != MAGIC) {
+                    throw new IOException("잘못된 혼잡도 모델 파일: " + path);
+                }
+
+                int features = in.readInt();
+                m.featureSource = new int[features];
+                m.featureKind = new int[features];
+                m.featureMean = new double[features];
+                m.featureScale = new double[features];
+                m.ordinalMap = new double[features * 7];
+                for (int f = 0; f < features; f++) {
+                    readString(in);
+                    m.featureSource[f] = in.readInt();
+                    m.featureKind[f] = in.readInt();
+                    if (m.featureKind[f] == KIND_ORDINAL) {
+                        for (int wd = 0; wd < 7; wd++) {
+                            m.ordinalMap[f * 7 + wd] = in.readDouble();
+                        }
+                    } else if (m.featureKind[f] == KIND_SCALED) {
+                        m.featureMean[f] = in.readDouble();
+                        m.featureScale[f] = in.readDouble();
+                    } else {
+                        throw new IOException("알 수 없는 특징 종류: " + m.featureKind[f]);
+                    }
+                }
+
+                m.baseScore = in.readFloat();
+                int trees = in.readInt();
+                int nodes = in.readInt();
+                m.roots = new int[trees];
+                for (int t = 0; t < trees; t++) {
+                    m.roots[t] = in.readInt();
+                }
+                m.nodeFeature = new int[nodes];
+                m.nodeSplit = new float[nodes];
+                m.nodeYes = new int[nodes];
+                m.nodeNo = new int[nodes];
+                m.nodeMissing = new int[nodes];
+                m.nodeLeaf = new float[nodes];
+                for (int n = 0; n < nodes; n++) {
+                    m.nodeFeature[n] = in.readInt();
+                    m.nodeSplit[n] = in.readFloat();
+                    m.nodeYes[n] = in.readInt();
+                    m.nodeNo[n] = in.readInt();
+                    m.nodeMissing[n] = in.readInt();
+                    m.nodeLeaf[n] = in.readFloat();
+                }
+
+                int lots = in.readInt();
+                m.lotNames = new String[lots];
+                m.lotIndex = new HashMap<>(lots * 4);
+                m.lotMean = new double[lots * AVG_COLUMNS];
+                m.cellMean = new double[lots * CELLS * AVG_COLUMNS];
+                for (int l = 0; l < lots; l++) {
+                    m.lotNames[l] = readString(in);
+                    m.lotIndex.put(m.lotNames[l], l);
+                    m.lotIndex.putIfAbsent(normalize(m.lotNames[l]), l);
+                    for (int c = 0; c < AVG_COLUMNS; c++) {
+                        m.lotMean[l * AVG_COLUMNS + c] = in.readDouble();
+                    }
+                    int base = l * CELLS * AVG_COLUMNS;
+                    for (int k = 0; k < CELLS * AVG_COLUMNS; k++) {
+                        m.cellMean[base + k] = in.readDouble();
+                    }
+                }
+
+                int fixtures = in.readInt();
+                m.fixtureLot = new int[fixtures];
+                m.fixtureWeekday = new int[fixtures];
+                m.fixtureHour = new int[fixtures];
+                m.fixtureExpected = new double[fixtures];
+                for (int i = 0; i < fixtures; i++) {
+                    m.fixtureLot[i] = in.readInt();
+                    m.fixtureWeekday[i] = in.readInt();
+                    m.fixtureHour[i] = in.readInt();
+                    m.fixtureExpected[i] = in.readDouble();
+                }
+            }
+            return m;
+        }
+
+        private static String readString(DataInputStream in) throws IOException {
+            byte[] bytes = new byte[in.readUnsignedShort()];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
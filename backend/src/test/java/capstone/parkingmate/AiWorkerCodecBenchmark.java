@@ -0,0 +1,134 @@
+package capstone.parkingmate;
+
+import capstone.parkingmate.dto.CongestionQuery;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// AI 워커 프레임 본문을 JSON 과 CBOR 로 주고받을 때의 크기·시간·할당량 비교 (./gradlew benchmark)
+// 한 번의 왕복 = predict 요청 직렬화 + 워커 응답(혼잡도 배열) 역직렬화. 파이썬 쪽 비용은 포함하지 않는다.
+@Tag("benchmark")
+class AiWorkerCodecBenchmark {
+
+    private static final int[] LOTS = {3, 300, 3000};
+
+    // 주차장 수와 관계없이 대략 같은 양(질의 약 60만 건)을 처리하도록 반복 횟수를 정한다
+    private static final int QUERIES_PER_RUN = 600_000;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+
+    // AiWorker.call 과 같은 요청 모양
+    private static Map<String, Object> request(int lots) {
+        List<CongestionQuery> queries = new ArrayList<>(lots);
+        for (int i = 0; i < lots; i++) {
+            queries.add(new CongestionQuery(i + 1, "테스트 공영주차장 " + (i + 1), 1 + i % 7, i % 24));
+        }
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("queries", queries);
+
+        Map<String, Object> request = new HashMap<>();
+        request.put("id", 1L);
+        request.put("op", "predict");
+        request.put("payload", payload);
+        return request;
+    }
+
+    // score.py worker 응답 모양. 열 건 중 한 건은 예측 불가(null)
+    private static Map<String, Object> response(int lots) {
+        List<Double> values = new ArrayList<>(lots);
+        for (int i = 0; i < lots; i++) {
+            values.add(i % 10 == 9 ? null : (i * 37 % 1000) / 10.0);
+        }
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", 1L);
+        response.put("ok", true);
+        response.put("result", values);
+        return response;
+    }
+
+    @Test
+    void 두_형식의_왕복_결과가_같다() throws Exception {
+        for (int lots : LOTS) {
+            byte[] body = json.writeValueAsBytes(response(lots));
+            JsonNode fromJson = json.readTree(body);
+            JsonNode fromCbor = cbor.readTree(cbor.writeValueAsBytes(response(lots)));
+
+            assertEquals(lots, fromCbor.get("result").size());
+            for (int i = 0; i < lots; i++) {
+                assertEquals(fromJson.get("result").get(i).isNull(), fromCbor.get("result").get(i).isNull());
+                assertEquals(fromJson.get("result").get(i).asDouble(), fromCbor.get("result").get(i).asDouble());
+            }
+            assertEquals(json.readTree(json.writeValueAsBytes(request(lots))),
+                    json.readTree(json.writeValueAsBytes(cbor.readTree(cbor.writeValueAsBytes(request(lots))))));
+        }
+    }
+
+    @Test
+    void JSON_대비_CBOR_크기_시간_할당량() throws Exception {
+        System.out.printf("%-5s %6s %10s %10s %12s %12s%n", "형식", "주차장", "요청 B", "응답 B", "µs/왕복", "KB/왕복");
+        for (int lots : LOTS) {
+            Map<String, Object> request = request(lots);
+            byte[] jsonResponse = json.writeValueAsBytes(response(lots));
+            byte[] cborResponse = cbor.writeValueAsBytes(response(lots));
+
+            int iterations = Math.max(200, QUERIES_PER_RUN / lots);
+            Result j = measure(json, request, jsonResponse, iterations);
+            Result c = measure(cbor, request, cborResponse, iterations);
+            print("JSON", lots, json.writeValueAsBytes(request).length, jsonResponse.length, j);
+            print("CBOR", lots, cbor.writeValueAsBytes(request).length, cborResponse.length, c);
+
+            System.out.printf("CBOR/JSON 주차장 %d: 요청 %.2f, 응답 %.2f, 시간 %.2f, 할당량 %.2f%n", lots,
+                    (double) cbor.writeValueAsBytes(request).length / json.writeValueAsBytes(request).length,
+                    (double) cborResponse.length / jsonResponse.length, c.micros / j.micros, c.kilobytes / j.kilobytes);
+        }
+    }
+
+    private static void print(String name, int lots, int requestBytes, int responseBytes, Result r) {
+        System.out.printf("%-5s %6d %10d %10d %12.2f %12.1f%n",
+                name, lots, requestBytes, responseBytes, r.micros, r.kilobytes);
+    }
+
+    private static Result measure(ObjectMapper mapper, Map<String, Object> request, byte[] response,
+                                  int iterations) throws Exception {
+        for (int i = 0; i < iterations; i++) {
+            roundTrip(mapper, request, response);
+        }
+
+        long thread = Thread.currentThread().getId();
+        long bytesBefore = THREADS.getThreadAllocatedBytes(thread);
+        long started = System.nanoTime();
+        long sink = 0;
+        for (int i = 0; i < iterations; i++) {
+            sink += roundTrip(mapper, request, response);
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = THREADS.getThreadAllocatedBytes(thread) - bytesBefore;
+
+        assertTrue(sink > 0);
+        return new Result(elapsed / 1e3 / iterations, allocated / 1024.0 / iterations);
+    }
+
+    private static long roundTrip(ObjectMapper mapper, Map<String, Object> request, byte[] response) throws Exception {
+        byte[] body = mapper.writeValueAsBytes(request);
+        JsonNode node = mapper.readTree(response);
+        return body.length + node.get("result").size();
+    }
+
+    private record Result(double micros, double kilobytes) {
+    }
+}
@@ -0,0 +1,175 @@
+package capstone.parkingmate;
+
+import capstone.parkingmate.dto.CongestionDTO;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// DOM(기존 방식)과 StAX 파서의 시간·할당량 비교 (./gradlew benchmark)
+// 고정 데이터는 GetParkingInfo 응답 형식의 두 페이지(1,500행)이며, 67행은 카탈로그에 있는 주차장명이다.
+@Tag("benchmark")
+class CongestionApiParserBenchmark {
+
+    private static final String[] PAGES = {
+            "fixtures/GetParkingInfo-1-1000.xml.gz",
+            "fixtures/GetParkingInfo-1001-2000.xml.gz"
+    };
+    private static final String PUBLIC_SUFFIX = " 공영주차장(시)";
+
+    private static final int WARMUP = 30;
+    private static final int ITERATIONS = 50;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static List<byte[]> pages;
+    private static Function<String, Long> resolver;
+
+    @BeforeAll
+    static void load() throws IOException {
+        pages = new ArrayList<>();
+        for (String page : PAGES) {
+            try (InputStream in = new GZIPInputStream(resource(page))) {
+                pages.add(in.readAllBytes());
+            }
+        }
+
+        // 보정표의 주차장명을 카탈로그 이름으로 사용
+        Map<String, Long> names = new HashMap<>();
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(
+                resource("parking_capacity_grouped.csv"), StandardCharsets.UTF_8))) {
+            br.readLine();
+            String line;
+            while ((line = br.readLine()) != null) {
+                String[] parts = line.split(",");
+                names.put(parts[1].trim(), Long.parseLong(parts[0].trim()));
+            }
+        }
+        resolver = name -> {
+            String key = name.endsWith(PUBLIC_SUFFIX) ? name.substring(0, name.length() - PUBLIC_SUFFIX.length()) : name;
+            return names.get(key.trim());
+        };
+    }
+
+    private static InputStream resource(String name) {
+        return CongestionApiParserBenchmark.class.getClassLoader().getResourceAsStream(name);
+    }
+
+    @Test
+    void 두_파서의_결과가_같다() throws Exception {
+        List<CongestionDTO> dom = parseDom();
+        List<CongestionDTO> stax = parseStax();
+
+        assertEquals(67, stax.size());
+        assertEquals(dom.size(), stax.size());
+        for (int i = 0; i < dom.size(); i++) {
+            assertEquals(dom.get(i).getP_id(), stax.get(i).getP_id());
+            assertEquals(dom.get(i).getTotal_spaces(), stax.get(i).getTotal_spaces());
+            assertEquals(dom.get(i).getCurrent_vehicles(), stax.get(i).getCurrent_vehicles());
+        }
+    }
+
+    @Test
+    void DOM_대비_StAX_시간과_할당량() throws Exception {
+        Result dom = measure("DOM", this::parseDom);
+        Result stax = measure("StAX", this::parseStax);
+
+        System.out.printf("%-5s %10.3f ms/feed %12.1f KB/feed%n", dom.name, dom.millis, dom.kilobytes);
+        System.out.printf("%-5s %10.3f ms/feed %12.1f KB/feed%n", stax.name, stax.millis, stax.kilobytes);
+        System.out.printf("StAX/DOM 시간 %.2f, 할당량 %.2f%n", stax.millis / dom.millis, stax.kilobytes / dom.kilobytes);
+
+        assertTrue(stax.kilobytes < dom.kilobytes);
+    }
+
+    // 기존 구현: 페이지마다 DOM 트리를 만들고 행마다 getElementsByTagName, 매핑은 파싱 후
+    private List<CongestionDTO> parseDom() throws Exception {
+        List<CongestionDTO> result = new ArrayList<>();
+        for (byte[] page : pages) {
+            Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                    .parse(new ByteArrayInputStream(page));
+            doc.getDocumentElement().normalize();
+
+            NodeList rows = doc.getElementsByTagName("row");
+            for (int i = 0; i < rows.getLength(); i++) {
+                Element row = (Element) rows.item(i);
+                String name = tagValue("PKLT_NM", row);
+                String totalStr = tagValue("TPKCT", row);
+                String nowStr = tagValue("NOW_PRK_VHCL_CNT", row);
+                if (name == null || totalStr == null || nowStr == null) {
+                    continue;
+                }
+                Long pid = resolver.apply(name.trim());
+                if (pid == null) {
+                    continue;
+                }
+                int total = Integer.parseInt(totalStr);
+                int now = Math.min(Integer.parseInt(nowStr), total);
+                result.add(new CongestionDTO(name.trim(), total, now, pid));
+            }
+        }
+        return result;
+    }
+
+    private static String tagValue(String tag, Element element) {
+        NodeList list = element.getElementsByTagName(tag);
+        if (list.getLength() > 0 && list.item(0).getFirstChild() != null) {
+            return list.item(0).getFirstChild().getNodeValue();
+        }
+        return null;
+    }
+
+    private List<CongestionDTO> parseStax() throws Exception {
+        List<CongestionDTO> result = new ArrayList<>();
+        for (byte[] page : pages) {
+            CongestionApiParser.parsePage(new ByteArrayInputStream(page), resolver, true, result::add);
+        }
+        return result;
+    }
+
+    private interface Parse {
+        List<CongestionDTO> run() throws Exception;
+    }
+
+    private static Result measure(String name, Parse parse) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            parse.run();
+        }
+
+        long thread = Thread.currentThread().getId();
+        long bytesBefore = THREADS.getThreadAllocatedBytes(thread);
+        long started = System.nanoTime();
+        int rows = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            rows += parse.run().size();
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = THREADS.getThreadAllocatedBytes(thread) - bytesBefore;
+
+        assertTrue(rows > 0);
+        return new Result(name, elapsed / 1e6 / ITERATIONS, allocated / 1024.0 / ITERATIONS);
+    }
+
+    private record Result(String name, double millis, double kilobytes) {
+    }
+}
@@ -0,0 +1,40 @@
+package capstone.parkingmate.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 마커 응답의 gzip 여부를 Accept-Encoding q 값으로 정하는지 확인
+class ParkingLotControllerTest {
+
+    @Test
+    void gzip_이_있으면_압축한다() {
+        assertTrue(ParkingLotController.acceptsGzip("gzip, deflate, br"));
+        assertTrue(ParkingLotController.acceptsGzip("GZIP;q=0.5"));
+        assertTrue(ParkingLotController.acceptsGzip("x-gzip"));
+    }
+
+    @Test
+    void q_가_0_이면_압축하지_않는다() {
+        assertFalse(ParkingLotController.acceptsGzip("gzip;q=0"));
+        assertFalse(ParkingLotController.acceptsGzip("br, gzip; q=0.0"));
+        assertFalse(ParkingLotController.acceptsGzip("*, gzip;q=0"));
+        assertFalse(ParkingLotController.acceptsGzip("gzip;q=abc"));
+    }
+
+    @Test
+    void gzip_이_없으면_별표를_따른다() {
+        assertTrue(ParkingLotController.acceptsGzip("*"));
+        assertTrue(ParkingLotController.acceptsGzip("br, *;q=0.1"));
+        assertFalse(ParkingLotController.acceptsGzip("*;q=0"));
+        assertFalse(ParkingLotController.acceptsGzip("identity, br"));
+        assertFalse(ParkingLotController.acceptsGzip(null));
+        assertFalse(ParkingLotController.acceptsGzip(""));
+    }
+
+    @Test
+    void 이름에_gzip_이_들어간_다른_코딩은_무시한다() {
+        assertFalse(ParkingLotController.acceptsGzip("notgzip"));
+    }
+}
@@ -0,0 +1,53 @@
+package capstone.parkingmate.dto;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// custom_weights 키가 없는 요청과 명시적인 null 요청을 구분하는지 확인
+class MypageRequestDTOTest {
+
+    // 스프링 부트 기본 설정처럼 모르는 필드는 무시
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Test
+    void 키가_없으면_가중치를_보내지_않은_것으로_본다() throws Exception {
+        MypageRequestDTO dto = objectMapper.readValue(
+                "{\"nickname\":\"주차왕\",\"preferred_factor\":\"FEE\"}", MypageRequestDTO.class);
+
+        assertFalse(dto.hasCustomWeights());
+        assertNull(dto.getCustom_weights());
+    }
+
+    @Test
+    void 명시적인_null_은_해제_요청이다() throws Exception {
+        MypageRequestDTO dto = objectMapper.readValue(
+                "{\"nickname\":\"주차왕\",\"preferred_factor\":\"FEE\",\"custom_weights\":null}", MypageRequestDTO.class);
+
+        assertTrue(dto.hasCustomWeights());
+        assertNull(dto.getCustom_weights());
+    }
+
+    @Test
+    void 값이_있으면_그대로_읽는다() throws Exception {
+        MypageRequestDTO dto = objectMapper.readValue(
+                "{\"custom_weights\":{\"congestion\":1,\"distance\":1,\"fee\":1,\"rating\":1}}", MypageRequestDTO.class);
+
+        assertTrue(dto.hasCustomWeights());
+        assertEquals(1.0, dto.getCustom_weights().getCongestion());
+    }
+
+    @Test
+    void 내부_플래그는_요청으로_설정할_수_없다() throws Exception {
+        MypageRequestDTO dto = objectMapper.readValue(
+                "{\"customWeightsPresent\":true}", MypageRequestDTO.class);
+
+        assertFalse(dto.hasCustomWeights());
+    }
+}
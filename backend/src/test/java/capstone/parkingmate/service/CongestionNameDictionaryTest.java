@@ -0,0 +1,60 @@
+package capstone.parkingmate.service;
+
+import capstone.parkingmate.dto.CatalogLot;
+import capstone.parkingmate.dto.ParkingLotCatalog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 매핑 실패 지표가 카탈로그에 있어야 할 시 운영 주차장만 세는지 확인
+class CongestionNameDictionaryTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CongestionNameDictionary dictionary = dictionary(registry);
+
+    private static CongestionNameDictionary dictionary(SimpleMeterRegistry registry) {
+        ParkingLotCatalogService catalogService = mock(ParkingLotCatalogService.class);
+        when(catalogService.getCatalog()).thenReturn(ParkingLotCatalog.of(1L, List.of(
+                lot(1, "가양역"), lot(2, "도봉산역 환승"))));
+        CongestionNameDictionary dictionary = new CongestionNameDictionary(catalogService, registry);
+        dictionary.init();
+        return dictionary;
+    }
+
+    private static CatalogLot lot(long pid, String name) {
+        return CatalogLot.builder().p_id(pid).name(name).latitude(37.5).longitude(127.0).build();
+    }
+
+    private double unmappedGauge() {
+        return registry.get("congestion.name.unmapped").gauge().value();
+    }
+
+    @Test
+    void 민영_주차장은_매핑_실패_지표에_세지_않는다() {
+        assertEquals(1L, dictionary.resolve("가양역 공영주차장(시)"));
+        assertNull(dictionary.resolve("OO빌딩 부설주차장"));
+        assertNull(dictionary.resolve("강남구청 공영주차장(구)"));
+        assertNull(dictionary.resolve("신설 공영주차장(시)"));
+        assertNull(dictionary.resolve("신설 공영주차장(시)"));
+
+        assertEquals(1.0, unmappedGauge());
+        assertEquals(1, dictionary.unmappedCount());
+    }
+
+    @Test
+    void 정규화로_학습하면_지표에서_빠진다() {
+        assertNull(dictionary.resolve("도봉산역환승 공영주차장(시)"));
+        assertEquals(1.0, unmappedGauge());
+
+        dictionary.learnUnmapped();
+
+        assertEquals(0.0, unmappedGauge());
+        assertEquals(2L, dictionary.resolve("도봉산역환승 공영주차장(시)"));
+    }
+}
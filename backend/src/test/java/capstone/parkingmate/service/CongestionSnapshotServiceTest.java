@@ -0,0 +1,142 @@
+package capstone.parkingmate.service;
+
+import capstone.parkingmate.event.CongestionFeedFetchedEvent;
+import capstone.parkingmate.util.CongestionFeedClient;
+import capstone.parkingmate.util.StubParkingApi;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 스텁 서버 장애 상황에서 스냅샷 유지와 차단기 동작을 확인
+class CongestionSnapshotServiceTest {
+
+    private StubParkingApi stub;
+    private CongestionFeedClient client;
+    private MeterRegistry meterRegistry;
+    private CongestionNameDictionary dictionary;
+    private final List<Object> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new StubParkingApi(500);
+        client = new CongestionFeedClient(stub.baseUrl(), 1000, 2000, 5000, 2, 10, 4);
+        meterRegistry = new SimpleMeterRegistry();
+
+        dictionary = mock(CongestionNameDictionary.class);
+        when(dictionary.resolve(anyString()))
+                .thenAnswer(inv -> Long.parseLong(inv.<String>getArgument(0).substring("테스트주차장".length())));
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+        stub.close();
+    }
+
+    // 차단기 임계치 2회, 열림 유지 1분
+    private CongestionSnapshotService service() {
+        return service(false);
+    }
+
+    private CongestionSnapshotService service(boolean recordRaw) {
+        return new CongestionSnapshotService(dictionary, client, events::add, meterRegistry,
+                180_000, 600_000, 2, 60_000, recordRaw);
+    }
+
+    private double breakerOpen() {
+        return meterRegistry.get("congestion.breaker.open").gauge().value();
+    }
+
+    @Test
+    void 수집에_성공하면_스냅샷을_교체한다() {
+        CongestionSnapshotService service = service();
+
+        service.refresh();
+
+        assertEquals(1L, service.getSnapshot().getVersion());
+        assertEquals(500, service.getSnapshot().getByPid().size());
+        assertNotNull(service.getSnapshot().get(42L));
+        assertEquals(1, events.size());
+        assertEquals(0.0, breakerOpen());
+    }
+
+    @Test
+    void 연속_실패하면_차단기가_열리고_API를_호출하지_않는다() {
+        CongestionSnapshotService service = service();
+        service.refresh();
+
+        // 두 번의 수집 모두 재시도까지 5xx
+        stub.failNext(1, StubParkingApi.Fault.ERROR_500, StubParkingApi.Fault.ERROR_500,
+                StubParkingApi.Fault.ERROR_500, StubParkingApi.Fault.ERROR_500);
+        service.refresh();
+        assertEquals(0.0, breakerOpen());
+        service.refresh();
+        assertEquals(1.0, breakerOpen());
+
+        // 차단 중에는 요청하지 않고 기존 스냅샷 유지
+        int requests = stub.requests();
+        service.refresh();
+        assertEquals(requests, stub.requests());
+        assertEquals(1L, service.getSnapshot().getVersion());
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    void 오류_응답과_빈_결과도_실패로_집계한다() {
+        CongestionSnapshotService service = service();
+
+        stub.failNext(1, StubParkingApi.Fault.ERROR_ENVELOPE, StubParkingApi.Fault.ERROR_ENVELOPE);
+        service.refresh();
+        assertEquals(0.0, breakerOpen());
+
+        // 모든 행이 매핑되지 않으면 빈 결과
+        doReturn(null).when(dictionary).resolve(anyString());
+        service.refresh();
+        assertEquals(1.0, breakerOpen());
+        assertEquals(0L, service.getSnapshot().getVersion());
+        assertEquals(0, events.size());
+    }
+
+    @Test
+    void 파싱_중_런타임_예외도_실패로_집계한다() {
+        CongestionSnapshotService service = service();
+        doThrow(new IllegalStateException("사전 오류")).when(dictionary).resolve(anyString());
+
+        service.refresh();
+        service.refresh();
+
+        assertEquals(1.0, breakerOpen());
+        assertEquals(0L, service.getSnapshot().getVersion());
+    }
+
+    @Test
+    void 녹화_중이면_매핑_실패_행까지_원본으로_넘긴다() {
+        CongestionSnapshotService service = service(true);
+        doAnswer(inv -> {
+            long row = Long.parseLong(inv.<String>getArgument(0).substring("테스트주차장".length()));
+            return row % 2 == 0 ? row : null;
+        }).when(dictionary).resolve(anyString());
+
+        service.refresh();
+
+        CongestionFeedFetchedEvent fetched = (CongestionFeedFetchedEvent) events.get(0);
+        assertEquals(500, fetched.getRows().size());
+        assertEquals(250, fetched.getRows().stream().filter(r -> r.getP_id() == null).count());
+        assertEquals(250, service.getSnapshot().getByPid().size());
+    }
+}
@@ -0,0 +1,119 @@
+package capstone.parkingmate.service;
+
+import capstone.parkingmate.dto.CatalogLot;
+import capstone.parkingmate.dto.CongestionDTO;
+import capstone.parkingmate.dto.CongestionSnapshot;
+import capstone.parkingmate.dto.ParkingLotCatalog;
+import capstone.parkingmate.dto.ScoredLot;
+import capstone.parkingmate.event.CongestionForecastReloadedEvent;
+import capstone.parkingmate.event.CongestionSnapshotUpdatedEvent;
+import capstone.parkingmate.event.ParkingLotCatalogUpdatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 계산 도중 무효화가 일어나도 이전 입력으로 만든 결과가 다시 조회되지 않는지,
+// 혼잡도 구간이 점수 계산과 같은 보정 면수로 나뉘는지 확인
+class ScoredLotCacheTest {
+
+    private final ParkingCapacityService capacity = capacityService();
+    private final ScoredLotCache cache = new ScoredLotCache(capacity, new SimpleMeterRegistry(), 100, 60_000, 5, 7);
+    private final CongestionSnapshot snapshot = new CongestionSnapshot(1L, Instant.EPOCH, Map.of());
+    private final AtomicInteger loads = new AtomicInteger();
+
+    // 주차장 1 은 실시간 API 가 총 면수를 1 로 주는 노상주차장, 보정 면수 40
+    private static ParkingCapacityService capacityService() {
+        ParkingCapacityService service = mock(ParkingCapacityService.class);
+        when(service.capacityOf(anyLong(), anyInt())).thenAnswer(inv -> inv.getArgument(1));
+        when(service.capacityOf(eq(1L), anyInt())).thenReturn(40);
+        return service;
+    }
+
+    private static CongestionSnapshot onStreetSnapshot(long version, int vehicles) {
+        return new CongestionSnapshot(version, Instant.EPOCH,
+                Map.of(1L, new CongestionDTO("주차장1", 1, vehicles, 1L)));
+    }
+
+    private static CatalogLot lot(long pid, double avgScore) {
+        return CatalogLot.builder().p_id(pid).name("주차장" + pid).latitude(37.5).longitude(127.0)
+                .avgScore(avgScore).build();
+    }
+
+    private List<ScoredLot> get(List<CatalogLot> lots, Runnable duringLoad) {
+        return get(lots, snapshot, duringLoad);
+    }
+
+    private List<ScoredLot> get(List<CatalogLot> lots, CongestionSnapshot snapshot, Runnable duringLoad) {
+        return cache.get(lots, snapshot, 1, 12, 37.5, 127.0, 120, () -> {
+            loads.incrementAndGet();
+            duringLoad.run();
+            return List.of(ScoredLot.builder().lot(lots.get(0)).build());
+        });
+    }
+
+    @Test
+    void 같은_조건이면_캐시된_결과를_쓴다() {
+        List<CatalogLot> lots = List.of(lot(1, 3.0), lot(2, 4.0));
+
+        get(lots, () -> { });
+        get(lots, () -> { });
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void 계산_중_평점이_바뀌면_늦게_저장된_결과는_새_카탈로그에서_쓰이지_않는다() {
+        CatalogLot before = lot(1, 3.0);
+        CatalogLot other = lot(2, 4.0);
+        CatalogLot after = before.toBuilder().avgScore(5.0).build();
+        ParkingLotCatalog previous = ParkingLotCatalog.of(1L, List.of(before, other));
+        ParkingLotCatalog current = previous.with(2L, after);
+
+        // 이전 카탈로그로 계산하는 사이 평점 변경 이벤트가 먼저 처리됨
+        get(List.of(before, other), () -> cache.onCatalogUpdated(
+                new ParkingLotCatalogUpdatedEvent(previous, current, 1L, true)));
+
+        get(current.getLots(), () -> { });
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void 계산_중_예측표가_교체되면_늦게_저장된_결과를_쓰지_않는다() {
+        List<CatalogLot> lots = List.of(lot(1, 3.0), lot(2, 4.0));
+
+        get(lots, () -> cache.onForecastReloaded(new CongestionForecastReloadedEvent(2)));
+        get(lots, () -> { });
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void 노상주차장은_보정_면수로_구간을_나눠_점유가_바뀌면_무효화한다() {
+        List<CatalogLot> lots = List.of(lot(1, 3.0), lot(2, 4.0));
+        CongestionSnapshot before = onStreetSnapshot(1L, 4);   // 4 / 40 = 10%
+
+        get(lots, before, () -> { });
+        // 5 / 40 = 12.5% 는 같은 구간이라 유지
+        CongestionSnapshot same = onStreetSnapshot(2L, 5);
+        cache.onSnapshotUpdated(new CongestionSnapshotUpdatedEvent(before, same));
+        get(lots, same, () -> { });
+        assertEquals(1, loads.get());
+
+        // 20 / 40 = 50% 로 바뀌면 제거되어 다시 계산
+        CongestionSnapshot after = onStreetSnapshot(3L, 20);
+        cache.onSnapshotUpdated(new CongestionSnapshotUpdatedEvent(same, after));
+        get(lots, after, () -> { });
+        assertEquals(2, loads.get());
+    }
+}
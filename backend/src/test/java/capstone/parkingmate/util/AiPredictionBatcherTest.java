@@ -0,0 +1,101 @@
+package capstone.parkingmate.util;
+
+import capstone.parkingmate.dto.CongestionQuery;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 워커가 밀릴 때 끝난 요청은 보내지 않고, 대기 배치가 가득 차면 바로 실패하는지 확인
+class AiPredictionBatcherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private AiWorkerPool workerPool;
+    private CountDownLatch entered;
+    private CountDownLatch release;
+    private AiPredictionBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        workerPool = mock(AiWorkerPool.class);
+        entered = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+
+        // 첫 호출은 release 될 때까지 워커를 붙잡는다
+        when(workerPool.call(eq("predict"), any())).thenAnswer(inv -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            ArrayNode result = objectMapper.createArrayNode();
+            result.add(42.0);
+            return result;
+        });
+
+        // 질의 1건마다 배치 하나, 호출 스레드 1개, 대기 배치 1개
+        batcher = new AiPredictionBatcher(workerPool, new SimpleMeterRegistry(), 0, 1, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        batcher.shutdown();
+    }
+
+    private static List<CongestionQuery> query(long lot) {
+        return List.of(new CongestionQuery(lot, "주차장" + lot, 1, 12));
+    }
+
+    @Test
+    void 대기_중_끝난_요청은_워커로_보내지_않는다() throws Exception {
+        CompletableFuture<List<Double>> running = batcher.submit(query(1));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        // 워커가 밀린 사이 호출 측 기한이 지난 요청
+        CompletableFuture<List<Double>> expired = batcher.submit(query(2));
+        expired.orTimeout(10, TimeUnit.MILLISECONDS);
+        assertThrows(ExecutionException.class, expired::get);
+
+        release.countDown();
+        assertEquals(List.of(42.0), running.get(5, TimeUnit.SECONDS));
+        verify(workerPool, after(300).times(1)).call(eq("predict"), any());
+    }
+
+    @Test
+    void 대기_배치가_가득_차면_바로_실패한다() throws Exception {
+        CompletableFuture<List<Double>> running = batcher.submit(query(1));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<List<Double>> queued = batcher.submit(query(2));
+        CompletableFuture<List<Double>> rejected = batcher.submit(query(3));
+
+        // 워커를 기다리지 않고 실패
+        ExecutionException e = assertThrows(ExecutionException.class, () -> rejected.get(1, TimeUnit.SECONDS));
+        assertTrue(e.getCause().getMessage().contains("대기 중인 배치 초과"));
+        assertFalse(queued.isDone());
+
+        release.countDown();
+        assertEquals(List.of(42.0), running.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(42.0), queued.get(5, TimeUnit.SECONDS));
+        verify(workerPool, times(2)).call(eq("predict"), any());
+    }
+}
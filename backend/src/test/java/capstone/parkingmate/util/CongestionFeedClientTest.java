@@ -0,0 +1,115 @@
+package capstone.parkingmate.util;
+
+import capstone.parkingmate.dto.CongestionDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 로컬 스텁 서버로 페이지 수집, 재시도, 시간 예산을 확인
+class CongestionFeedClientTest {
+
+    // 테스트 행 이름 "테스트주차장{n}" → p_id n
+    private static final Function<String, Long> RESOLVER =
+            name -> Long.parseLong(name.substring("테스트주차장".length()));
+
+    private StubParkingApi stub;
+    private CongestionFeedClient client;
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.shutdown();
+        }
+        if (stub != null) {
+            stub.close();
+        }
+    }
+
+    private CongestionFeedClient client(long readTimeoutMs, long budgetMs, int maxAttempts) {
+        return new CongestionFeedClient(stub.baseUrl(), 1000, readTimeoutMs, budgetMs, maxAttempts, 10, 4);
+    }
+
+    @Test
+    void 전체_페이지를_동시에_수집한다() throws IOException {
+        stub = new StubParkingApi(2500);
+        client = client(2000, 5000, 3);
+
+        List<CongestionDTO> rows = client.fetchAll(RESOLVER);
+
+        assertEquals(2500, rows.size());
+        assertEquals(1, stub.hits(1));
+        assertEquals(1, stub.hits(1001));
+        assertEquals(1, stub.hits(2001));
+    }
+
+    @Test
+    void 매핑되지_않는_행은_버린다() throws IOException {
+        stub = new StubParkingApi(10);
+        client = client(2000, 5000, 3);
+
+        List<CongestionDTO> rows = client.fetchAll(name -> name.endsWith("7") ? null : RESOLVER.apply(name));
+
+        assertEquals(9, rows.size());
+        assertTrue(rows.stream().noneMatch(r -> r.getName().endsWith("7")));
+    }
+
+    @Test
+    void 서버_오류가_난_페이지만_다시_요청한다() throws IOException {
+        stub = new StubParkingApi(2500);
+        stub.failNext(1001, StubParkingApi.Fault.ERROR_500, StubParkingApi.Fault.ERROR_500);
+        client = client(2000, 5000, 3);
+
+        List<CongestionDTO> rows = client.fetchAll(RESOLVER);
+
+        assertEquals(2500, rows.size());
+        assertEquals(1, stub.hits(1));
+        assertEquals(3, stub.hits(1001));
+        assertEquals(1, stub.hits(2001));
+    }
+
+    @Test
+    void 잘린_본문과_오류_응답도_재시도한다() throws IOException {
+        stub = new StubParkingApi(500);
+        stub.failNext(1, StubParkingApi.Fault.TRUNCATED, StubParkingApi.Fault.ERROR_ENVELOPE);
+        client = client(2000, 5000, 3);
+
+        List<CongestionDTO> rows = client.fetchAll(RESOLVER);
+
+        assertEquals(500, rows.size());
+        assertEquals(3, stub.hits(1));
+    }
+
+    @Test
+    void 재시도_횟수를_넘기면_실패한다() throws IOException {
+        stub = new StubParkingApi(2500);
+        stub.failNext(2001, StubParkingApi.Fault.ERROR_500, StubParkingApi.Fault.ERROR_500,
+                StubParkingApi.Fault.ERROR_500);
+        client = client(2000, 5000, 3);
+
+        IOException e = assertThrows(IOException.class, () -> client.fetchAll(RESOLVER));
+
+        assertEquals("HTTP 500", e.getMessage());
+        assertEquals(3, stub.hits(2001));
+    }
+
+    @Test
+    void 시간_예산을_넘기면_기다리지_않고_실패한다() throws IOException {
+        stub = new StubParkingApi(2500);
+        stub.setDelayMs(1500);
+        client = client(5000, 800, 3);
+
+        long started = System.nanoTime();
+        assertThrows(IOException.class, () -> client.fetchAll(RESOLVER));
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+        // 응답 지연(1.5초)보다 먼저, 예산(0.8초) 근처에서 끝나야 한다
+        assertTrue(elapsedMs < 1400, "elapsed=" + elapsedMs + "ms");
+    }
+}
@@ -0,0 +1,109 @@
+package capstone.parkingmate.util;
+
+import capstone.parkingmate.event.CongestionForecastReloadedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// export_forecast.py 가 쓴 표를 그대로 읽어 같은 값이 나오는지 확인 (바이트 순서·인덱스·범위 보정)
+class CongestionForecastTableTest {
+
+    private static final Path EXPORTER = Paths.get("../ai/src/export_forecast.py").toAbsolutePath().normalize();
+
+    private Path dir;
+    private final List<Object> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dir = Files.createTempDirectory("congestion-forecast");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (var files = Files.list(dir)) {
+            for (Path f : files.toList()) {
+                Files.deleteIfExists(f);
+            }
+        }
+        Files.deleteIfExists(dir);
+    }
+
+    // 주차장 0 "가양역": (월, 8시) 50.0, (일, 23시) 123.4 → 100
+    // 주차장 1 "Dobong Lot": (수, 0시) -3 → 0, (금, 12시) 37.25
+    // 나머지 칸은 NaN
+    private Path export() throws IOException, InterruptedException {
+        assumeTrue(Files.isReadable(EXPORTER), "export_forecast.py 없음");
+        Path table = dir.resolve("congestion_forecast.bin");
+        Path script = dir.resolve("write_table.py");
+        Files.writeString(script, String.join("\n",
+                "import sys",
+                "sys.path.insert(0, sys.argv[1])",
+                "import export_forecast as e",
+                "values = [float('nan')] * (2 * e.CELLS)",
+                "values[(0 * 7 + 0) * 24 + 8] = 50.0",
+                "values[(0 * 7 + 6) * 24 + 23] = 123.4",
+                "values[(1 * 7 + 2) * 24 + 0] = -3.0",
+                "values[(1 * 7 + 4) * 24 + 12] = 37.25",
+                "e.write_table(sys.argv[2], ['가양역', 'Dobong Lot'], values)",
+                ""), StandardCharsets.UTF_8);
+
+        Process process;
+        try {
+            process = new ProcessBuilder("python3", script.toString(), EXPORTER.getParent().toString(), table.toString())
+                    .redirectErrorStream(true)
+                    .start();
+        } catch (IOException e) {
+            assumeTrue(false, "python3 없음");
+            throw e;
+        }
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertTrue(process.waitFor(30, TimeUnit.SECONDS));
+        assertEquals(0, process.exitValue(), output);
+        return table;
+    }
+
+    private CongestionForecastTable load(Path table) {
+        CongestionForecastTable forecast = new CongestionForecastTable(table.toString(), events::add);
+        forecast.load();
+        return forecast;
+    }
+
+    @Test
+    void 파이썬이_쓴_값을_그대로_읽는다() throws Exception {
+        CongestionForecastTable forecast = load(export());
+
+        assertTrue(forecast.isReady());
+        assertEquals(50.0, forecast.lookup("가양역", 1, 8));
+        assertEquals(37.25, forecast.lookup("Dobong Lot", 5, 12));
+        // 범위 밖 값은 내보낼 때 0~100 으로 잘린다
+        assertEquals(100.0, forecast.lookup("가양역", 7, 23));
+        assertEquals(0.0, forecast.lookup("Dobong Lot", 3, 0));
+        assertTrue(Double.isNaN(forecast.lookup("가양역", 1, 9)));
+
+        assertEquals(1, events.size());
+        assertEquals(2, ((CongestionForecastReloadedEvent) events.get(0)).getLotCount());
+    }
+
+    @Test
+    void 이름은_정규화해서도_찾고_모르는_값은_NaN() throws Exception {
+        CongestionForecastTable forecast = load(export());
+
+        assertEquals(37.25, forecast.lookup(" dobong lot ", 5, 12));
+        assertTrue(Double.isNaN(forecast.lookup("없는 주차장", 1, 8)));
+        assertTrue(Double.isNaN(forecast.lookup("가양역", 1, 24)));
+        assertTrue(Double.isNaN(forecast.lookup(null, 1, 8)));
+    }
+}
@@ -0,0 +1,101 @@
+package capstone.parkingmate.util;
+
+import capstone.parkingmate.dto.CongestionDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// 원본 행 녹화본을 재생할 때 주차장명을 pidResolver 로 다시 매핑하는지 확인
+class CongestionReplayFeedTest {
+
+    private static final Function<String, Long> RESOLVER = Map.of("가양역", 1L, "도봉산", 2L)::get;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempFile("congestion-record", ".bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            write(channel, CongestionRecordCodec.encode(Instant.ofEpochMilli(1_000), List.of(
+                    new CongestionDTO("가양역", 100, 10),
+                    new CongestionDTO("미등록 주차장", 30, 3))));
+            write(channel, CongestionRecordCodec.encode(Instant.ofEpochMilli(61_000), List.of(
+                    new CongestionDTO("가양역", 100, 20),
+                    new CongestionDTO("도봉산", 50, 5, 2L))));
+            // 기록 중 잘린 마지막 레코드
+            ByteBuffer partial = CongestionRecordCodec.encode(Instant.ofEpochMilli(121_000),
+                    List.of(new CongestionDTO("가양역", 100, 30)));
+            partial.limit(partial.limit() - 3);
+            write(channel, partial);
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buf) throws IOException {
+        while (buf.hasRemaining()) {
+            channel.write(buf);
+        }
+    }
+
+    @Test
+    void 녹화본은_매핑_전_원본_행을_담는다() throws IOException {
+        List<CongestionRecordCodec.Record> records = CongestionRecordCodec.readAll(file);
+
+        assertEquals(2, records.size());
+        assertEquals(2, records.get(0).getRows().size());
+        assertEquals("미등록 주차장", records.get(0).getRows().get(1).getName());
+        assertNull(records.get(1).getRows().get(1).getP_id());
+    }
+
+    @Test
+    void 재생할_때_이름으로_p_id를_매핑하고_매핑_실패_행은_버린다() throws IOException {
+        CongestionReplayFeed feed = new CongestionReplayFeed(file.toString(), 0, false);
+
+        List<CongestionDTO> first = feed.fetchAll(RESOLVER);
+        assertEquals(1, first.size());
+        assertEquals(1L, first.get(0).getP_id());
+        assertEquals(10, first.get(0).getCurrent_vehicles());
+
+        List<CongestionDTO> second = feed.fetchAll(RESOLVER);
+        assertEquals(2, second.size());
+        assertEquals(2L, second.get(1).getP_id());
+
+        // 반복하지 않으면 마지막 레코드에 머문다
+        assertEquals(20, feed.fetchAll(RESOLVER).get(0).getCurrent_vehicles());
+    }
+
+    @Test
+    void 매핑_실패_행을_남기도록_요청하면_p_id_없이_돌려준다() throws IOException {
+        CongestionReplayFeed feed = new CongestionReplayFeed(file.toString(), 0, false);
+
+        List<CongestionDTO> rows = feed.fetchAll(RESOLVER, true);
+
+        assertEquals(2, rows.size());
+        assertNull(rows.get(1).getP_id());
+    }
+
+    @Test
+    void 재생_모드에서는_녹화를_켤_수_없다() {
+        assertThrows(IllegalStateException.class,
+                () -> new CongestionSnapshotRecorder(file.toString(), "replay"));
+    }
+}
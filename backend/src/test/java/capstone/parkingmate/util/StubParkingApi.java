@@ -0,0 +1,164 @@
+package capstone.parkingmate.util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 서울시 GetParkingInfo 를 흉내 내는 로컬 HTTP 서버 (테스트용)
+// /GetParkingInfo/{start}/{end} 요청에 녹화된 형식의 XML 페이지를 돌려주고,
+// 페이지별로 지연·5xx·잘린 본문·오류 응답을 미리 걸어둘 수 있다.
+public class StubParkingApi implements AutoCloseable {
+
+    public enum Fault { ERROR_500, TRUNCATED, ERROR_ENVELOPE }
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final int totalCount;
+
+    private final Map<Integer, Deque<Fault>> faults = new ConcurrentHashMap<>();
+    private final Map<Integer, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile long delayMs = 0L;
+
+    public StubParkingApi(int totalCount) throws IOException {
+        this.totalCount = totalCount;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/GetParkingInfo", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/GetParkingInfo";
+    }
+
+    // start 페이지의 다음 요청들에 순서대로 적용할 장애
+    public void failNext(int start, Fault... next) {
+        Deque<Fault> queue = faults.computeIfAbsent(start, k -> new ArrayDeque<>());
+        synchronized (queue) {
+            for (Fault fault : next) {
+                queue.addLast(fault);
+            }
+        }
+    }
+
+    // 모든 응답 앞에 넣을 지연
+    public void setDelayMs(long delayMs) {
+        this.delayMs = delayMs;
+    }
+
+    public int hits(int start) {
+        AtomicInteger count = hits.get(start);
+        return count == null ? 0 : count.get();
+    }
+
+    public int requests() {
+        return requests.get();
+    }
+
+    // 테스트 행의 주차장명
+    public static String nameOf(int row) {
+        return "테스트주차장" + row;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String[] parts = exchange.getRequestURI().getPath().split("/");
+            int start = Integer.parseInt(parts[parts.length - 2]);
+            int end = Integer.parseInt(parts[parts.length - 1]);
+            requests.incrementAndGet();
+            hits.computeIfAbsent(start, k -> new AtomicInteger()).incrementAndGet();
+
+            if (delayMs > 0) {
+                try {
+                    Thread.sleep(delayMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+
+            Fault fault = nextFault(start);
+            if (fault == Fault.ERROR_500) {
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+
+            byte[] body = fault == Fault.ERROR_ENVELOPE
+                    ? errorEnvelope().getBytes(StandardCharsets.UTF_8)
+                    : page(start, end).getBytes(StandardCharsets.UTF_8);
+            int length = fault == Fault.TRUNCATED ? body.length / 2 : body.length;
+
+            // 잘린 본문은 청크 전송으로 보내 정상 종료된 것처럼 보이게 한다
+            exchange.getResponseHeaders().set("Content-Type", "text/xml;charset=UTF-8");
+            exchange.sendResponseHeaders(200, fault == Fault.TRUNCATED ? 0 : body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body, 0, length);
+            }
+        }
+    }
+
+    private Fault nextFault(int start) {
+        Deque<Fault> queue = faults.get(start);
+        if (queue == null) {
+            return null;
+        }
+        synchronized (queue) {
+            return queue.pollFirst();
+        }
+    }
+
+    private String page(int start, int end) {
+        StringBuilder sb = new StringBuilder(256 * (end - start + 1));
+        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>")
+                .append("<GetParkingInfo>")
+                .append("<list_total_count>").append(totalCount).append("</list_total_count>")
+                .append("<RESULT><CODE>INFO-000</CODE><MESSAGE>정상 처리되었습니다</MESSAGE></RESULT>");
+        for (int i = start; i <= Math.min(end, totalCount); i++) {
+            sb.append("<row>")
+                    .append("<PKLT_CD>").append(100000 + i).append("</PKLT_CD>")
+                    .append("<PKLT_NM>").append(nameOf(i)).append("</PKLT_NM>")
+                    .append("<ADDR>서울특별시 테스트구 ").append(i).append("</ADDR>")
+                    .append("<PKLT_TYPE>NW</PKLT_TYPE>")
+                    .append("<PRK_TYPE_NM>노외 주차장</PRK_TYPE_NM>")
+                    .append("<OPER_SE>1</OPER_SE>")
+                    .append("<TELNO>02-000-0000</TELNO>")
+                    .append("<PRK_STTS_YN>1</PRK_STTS_YN>")
+                    .append("<TPKCT>").append(50 + i % 200).append("</TPKCT>")
+                    .append("<NOW_PRK_VHCL_CNT>").append(i % 50).append("</NOW_PRK_VHCL_CNT>")
+                    .append("<NOW_PRK_VHCL_UPDT_TM>2025-05-01 12:00:00</NOW_PRK_VHCL_UPDT_TM>")
+                    .append("<PAY_YN>Y</PAY_YN>")
+                    .append("<BSC_PRK_CRG>300</BSC_PRK_CRG>")
+                    .append("<BSC_PRK_HR>5</BSC_PRK_HR>")
+                    .append("<ADD_PRK_CRG>300</ADD_PRK_CRG>")
+                    .append("<ADD_PRK_HR>5</ADD_PRK_HR>")
+                    .append("<LAT>37.5").append(i % 1000).append("</LAT>")
+                    .append("<LOT>126.9").append(i % 1000).append("</LOT>")
+                    .append("</row>");
+        }
+        return sb.append("</GetParkingInfo>").toString();
+    }
+
+    private static String errorEnvelope() {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                + "<RESULT><CODE>ERROR-500</CODE><MESSAGE>서버 오류입니다.</MESSAGE></RESULT>";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,297 @@
+package capstone.parkingmate.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ml.dmlc.xgboost4j.java.Booster;
+import ml.dmlc.xgboost4j.java.DMatrix;
+import ml.dmlc.xgboost4j.java.XGBoost;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 실제 XGBoost(파이썬 xgboost 와 같은 C++ 엔진)로 train.py 와 같은 특징·하이퍼파라미터의 모델을 학습하고,
+// export_model.py 와 같은 방식(트리 덤프 → CGM1)으로 내보낸 뒤 XgbCongestionPredictor 의 예측을 엔진 예측과 비교한다.
+class XgbCongestionPredictorParityTest {
+
+    private static final int MAGIC = 0x43474D31;
+    private static final String[] COLUMNS = {"주차면수", "입차대수", "출차대수", "지난주_혼잡도", "지지난주_혼잡도", "지지지난주_혼잡도", "시간", "요일"};
+    private static final int AVG_COLUMNS = 6;
+    private static final int SRC_HOUR = 6;
+    private static final int SRC_WEEKDAY = 7;
+    private static final String[] LOTS = {"가양역", "도봉산", "마들", "수락산"};
+    private static final int WEEKS = 3;
+
+    private Path file;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // 학습 데이터 한 행: 주차장, 요일(0~6), 시간, 평균 대상 6열, 혼잡도
+    private record Row(int lot, int wd, int hour, double[] avg, double label) {
+    }
+
+    // 주차장마다 규모와 시간대별 패턴이 다른 가짜 시간별 현황.
+    // 수락산은 주말 밤 기록이 없어 빈 셀(주차장 전체 평균 대체)이 생긴다.
+    private static List<Row> history() {
+        Random rnd = new Random(42);
+        List<Row> rows = new ArrayList<>();
+        for (int lot = 0; lot < LOTS.length; lot++) {
+            double capacity = 50 + 80 * lot;
+            for (int week = 0; week < WEEKS; week++) {
+                for (int wd = 0; wd < 7; wd++) {
+                    for (int hour = 0; hour < 24; hour++) {
+                        if (lot == 3 && wd >= 5 && (hour < 6 || hour > 21)) {
+                            continue;
+                        }
+                        double busy = Math.max(0, Math.sin((hour - 6) / 24.0 * 2 * Math.PI)) * (wd < 5 ? 1.0 : 0.6);
+                        double in = capacity * 0.2 * busy + rnd.nextDouble() * 5;
+                        double out = capacity * 0.15 * busy + rnd.nextDouble() * 5;
+                        double label = Math.min(100, Math.max(0, 30 + 60 * busy + lot * 3 + rnd.nextGaussian() * 4));
+                        double[] avg = {capacity, in, out,
+                                label + rnd.nextGaussian() * 6, label + rnd.nextGaussian() * 8, label + rnd.nextGaussian() * 10};
+                        rows.add(new Row(lot, wd, hour, avg, label));
+                    }
+                }
+            }
+        }
+        return rows;
+    }
+
+    @Test
+    void XGBoost로_학습한_모델을_내보내면_엔진_예측과_일치한다() throws Exception {
+        List<Row> rows = history();
+
+        // StandardScaler(모집단 표준편차)와 OrdinalEncoder(요일 0~6 모두 존재 → 그대로)
+        double[] mean = new double[SRC_WEEKDAY];
+        double[] scale = new double[SRC_WEEKDAY];
+        for (int f = 0; f < SRC_WEEKDAY; f++) {
+            double sum = 0;
+            double sq = 0;
+            for (Row r : rows) {
+                double v = raw(r.avg(), f, r.hour());
+                sum += v;
+                sq += v * v;
+            }
+            mean[f] = sum / rows.size();
+            scale[f] = Math.sqrt(sq / rows.size() - mean[f] * mean[f]);
+        }
+
+        float[] x = new float[rows.size() * COLUMNS.length];
+        float[] y = new float[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            Row r = rows.get(i);
+            encode(x, i, r.avg(), r.wd(), r.hour(), mean, scale);
+            y[i] = (float) r.label();
+        }
+        DMatrix train = new DMatrix(x, rows.size(), COLUMNS.length, Float.NaN);
+        train.setLabel(y);
+
+        // train.py 와 같은 하이퍼파라미터
+        Map<String, Object> params = new HashMap<>();
+        params.put("objective", "reg:squarederror");
+        params.put("max_depth", 10);
+        params.put("eta", 0.02);
+        params.put("subsample", 0.8);
+        params.put("colsample_bytree", 0.8);
+        params.put("seed", 42);
+        params.put("nthread", 1);
+        Booster booster = XGBoost.train(train, params, 300, new HashMap<>(), null, null);
+
+        // predict_congestion 과 같은 평균: (주차장, 요일, 시간) 셀, 셀이 비면 주차장 전체 평균.
+        // 도봉산은 입차대수 기록이 전부 비어 있다고 보고 결측 분기도 확인한다.
+        double[][] lotMean = new double[LOTS.length][AVG_COLUMNS];
+        double[][][] cellMean = new double[LOTS.length][7 * 24][AVG_COLUMNS];
+        average(rows, lotMean, cellMean);
+        lotMean[1][1] = Double.NaN;
+        for (double[] cell : cellMean[1]) {
+            cell[1] = Double.NaN;
+        }
+
+        int cells = LOTS.length * 7 * 24;
+        float[] query = new float[cells * COLUMNS.length];
+        for (int lot = 0; lot < LOTS.length; lot++) {
+            for (int wd = 0; wd < 7; wd++) {
+                for (int hour = 0; hour < 24; hour++) {
+                    double[] avg = cellMean[lot][wd * 24 + hour];
+                    if (Double.isNaN(avg[0])) {
+                        avg = lotMean[lot];
+                    }
+                    encode(query, (lot * 7 + wd) * 24 + hour, avg, wd, hour, mean, scale);
+                }
+            }
+        }
+        float[][] expected = booster.predict(new DMatrix(query, cells, COLUMNS.length, Float.NaN));
+
+        file = Files.createTempFile("congestion-model", ".bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            out.writeInt(MAGIC);
+            writeFeatures(out, mean, scale);
+            writeTrees(out, booster);
+            writeLots(out, lotMean, cellMean);
+            out.writeInt(cells);
+            for (int i = 0; i < cells; i++) {
+                out.writeInt(i / (7 * 24));
+                out.writeInt(i / 24 % 7 + 1);
+                out.writeInt(i % 24);
+                out.writeDouble(expected[i][0]);
+            }
+        }
+
+        // 로드 시 모든 셀을 엔진 예측과 비교해 허용 오차를 넘으면 isReady 가 false
+        XgbCongestionPredictor predictor = new XgbCongestionPredictor(file.toString(), 1e-3);
+        predictor.load();
+        assertTrue(predictor.isReady());
+
+        double maxError = 0;
+        for (int i = 0; i < cells; i++) {
+            double actual = predictor.predict(i / (7 * 24), i / 24 % 7 + 1, i % 24);
+            maxError = Math.max(maxError, Math.abs(actual - expected[i][0]));
+        }
+        System.out.printf("XGBoost 엔진 대비 최대 오차: %.3g (셀 %d개)%n", maxError, cells);
+        assertTrue(maxError < 1e-3, "최대 오차 " + maxError);
+    }
+
+    private static double raw(double[] avg, int f, int hour) {
+        return f == SRC_HOUR ? hour : avg[f];
+    }
+
+    // 스케일링은 double 로 하고 XGBoost 에는 float32 로 넘긴다 (pandas → DMatrix 와 같음)
+    private static void encode(float[] x, int row, double[] avg, int wd, int hour, double[] mean, double[] scale) {
+        int base = row * COLUMNS.length;
+        for (int f = 0; f < SRC_WEEKDAY; f++) {
+            x[base + f] = (float) ((raw(avg, f, hour) - mean[f]) / scale[f]);
+        }
+        x[base + SRC_WEEKDAY] = wd;
+    }
+
+    private static void average(List<Row> rows, double[][] lotMean, double[][][] cellMean) {
+        int[] lotCount = new int[LOTS.length];
+        int[][] cellCount = new int[LOTS.length][7 * 24];
+        for (Row r : rows) {
+            lotCount[r.lot()]++;
+            cellCount[r.lot()][r.wd() * 24 + r.hour()]++;
+            for (int c = 0; c < AVG_COLUMNS; c++) {
+                lotMean[r.lot()][c] += r.avg()[c];
+                cellMean[r.lot()][r.wd() * 24 + r.hour()][c] += r.avg()[c];
+            }
+        }
+        for (int lot = 0; lot < LOTS.length; lot++) {
+            for (int c = 0; c < AVG_COLUMNS; c++) {
+                lotMean[lot][c] /= lotCount[lot];
+                for (int k = 0; k < 7 * 24; k++) {
+                    int n = cellCount[lot][k];
+                    cellMean[lot][k][c] = n == 0 ? Double.NaN : cellMean[lot][k][c] / n;
+                }
+            }
+        }
+    }
+
+    private static void writeFeatures(DataOutputStream out, double[] mean, double[] scale) throws IOException {
+        out.writeInt(COLUMNS.length);
+        for (int f = 0; f < COLUMNS.length; f++) {
+            writeString(out, COLUMNS[f]);
+            if (f == SRC_WEEKDAY) {
+                out.writeInt(SRC_WEEKDAY);
+                out.writeInt(1);
+                for (int wd = 0; wd < 7; wd++) {
+                    out.writeDouble(wd);
+                }
+            } else {
+                out.writeInt(f);
+                out.writeInt(0);
+                out.writeDouble(mean[f]);
+                out.writeDouble(scale[f]);
+            }
+        }
+    }
+
+    // export_model.py 의 write_trees 와 같은 방식: base_score 는 모델 JSON 에서, 트리는 덤프에서 읽어
+    // 노드 ID 순으로 이어 붙이고 자식 포인터를 전체 배열 기준 인덱스로 바꾼다
+    private static void writeTrees(DataOutputStream out, Booster booster) throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode learner = mapper.readTree(booster.toByteArray("json")).path("learner");
+        String baseScore = learner.path("learner_model_param").path("base_score").asText().replaceAll("[\\[\\]]", "");
+
+        List<Integer> roots = new ArrayList<>();
+        List<Object[]> nodes = new ArrayList<>();
+        for (String dump : booster.getModelDump((String) null, false, "json")) {
+            TreeMap<Integer, JsonNode> tree = new TreeMap<>();
+            collect(mapper.readTree(dump), tree);
+            Map<Integer, Integer> ids = new HashMap<>();
+            for (int id : tree.keySet()) {
+                ids.put(id, nodes.size() + ids.size());
+            }
+            roots.add(nodes.size());
+            for (JsonNode n : tree.values()) {
+                if (n.has("leaf")) {
+                    nodes.add(new Object[]{-1, 0f, -1, -1, -1, (float) n.get("leaf").asDouble()});
+                } else {
+                    int feature = Integer.parseInt(n.get("split").asText().substring(1));
+                    nodes.add(new Object[]{feature, (float) n.get("split_condition").asDouble(),
+                            ids.get(n.get("yes").asInt()), ids.get(n.get("no").asInt()),
+                            ids.get(n.get("missing").asInt()), 0f});
+                }
+            }
+        }
+
+        out.writeFloat(Float.parseFloat(baseScore.split(",")[0]));
+        out.writeInt(roots.size());
+        out.writeInt(nodes.size());
+        for (int root : roots) {
+            out.writeInt(root);
+        }
+        for (Object[] n : nodes) {
+            out.writeInt((int) n[0]);
+            out.writeFloat((float) n[1]);
+            out.writeInt((int) n[2]);
+            out.writeInt((int) n[3]);
+            out.writeInt((int) n[4]);
+            out.writeFloat((float) n[5]);
+        }
+    }
+
+    private static void collect(JsonNode node, Map<Integer, JsonNode> tree) {
+        tree.put(node.get("nodeid").asInt(), node);
+        for (JsonNode child : node.path("children")) {
+            collect(child, tree);
+        }
+    }
+
+    private static void writeLots(DataOutputStream out, double[][] lotMean, double[][][] cellMean) throws IOException {
+        out.writeInt(LOTS.length);
+        for (int lot = 0; lot < LOTS.length; lot++) {
+            writeString(out, LOTS[lot]);
+            for (double v : lotMean[lot]) {
+                out.writeDouble(v);
+            }
+            for (double[] cell : cellMean[lot]) {
+                for (double v : cell) {
+                    out.writeDouble(v);
+                }
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+}
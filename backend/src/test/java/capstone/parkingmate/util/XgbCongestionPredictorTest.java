@@ -0,0 +1,185 @@
+package capstone.parkingmate.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// 트리 순회·전처리·평균 대체를 손으로 계산할 수 있는 작은 모델로 확인하고,
+// export_model.py 산출물이 있으면(-Dai.model.path=...) 파이썬 예측값과의 일치 여부를 확인한다.
+class XgbCongestionPredictorTest {
+
+    private static final int MAGIC = 0x43474D31;
+    private static final double NaN = Double.NaN;
+
+    private Path file;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // 특징: 주차면수(표준화, 평균 100 / 척도 50), 요일(순서 인코딩), 시간(표준화, 평균 12 / 척도 6)
+    // 트리 0: 시간 < 0 ? 10 : 20 (결측 → 10)
+    // 트리 1: 주차면수 < 0.5 ? 1 : 2 (결측 → 2)
+    // 트리 2: 요일 < 3.5 ? 100 : 200
+    // base_score 30
+    // 주차장 0 "가양역": 전체 평균 주차면수 150, (월, 8시) 셀만 200
+    // 주차장 1 "도봉산": 전체 평균 주차면수 결측, 셀 없음
+    private Path writeModel(double... fixtures) throws IOException {
+        file = Files.createTempFile("congestion-model", ".bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            out.writeInt(MAGIC);
+
+            out.writeInt(3);
+            writeString(out, "주차면수");
+            out.writeInt(0);
+            out.writeInt(0);
+            out.writeDouble(100);
+            out.writeDouble(50);
+            writeString(out, "요일");
+            out.writeInt(7);
+            out.writeInt(1);
+            for (int wd = 0; wd < 7; wd++) {
+                out.writeDouble(wd);
+            }
+            writeString(out, "시간");
+            out.writeInt(6);
+            out.writeInt(0);
+            out.writeDouble(12);
+            out.writeDouble(6);
+
+            out.writeFloat(30f);
+            out.writeInt(3);
+            out.writeInt(9);
+            out.writeInt(0);
+            out.writeInt(3);
+            out.writeInt(6);
+            writeNode(out, 2, 0f, 1, 2, 1, 0f);
+            writeLeaf(out, 10f);
+            writeLeaf(out, 20f);
+            writeNode(out, 0, 0.5f, 4, 5, 5, 0f);
+            writeLeaf(out, 1f);
+            writeLeaf(out, 2f);
+            writeNode(out, 1, 3.5f, 7, 8, 7, 0f);
+            writeLeaf(out, 100f);
+            writeLeaf(out, 200f);
+
+            out.writeInt(2);
+            writeLot(out, "가양역", 150, 0, 8, 200);
+            writeLot(out, "도봉산", NaN, -1, -1, NaN);
+
+            out.writeInt(fixtures.length / 4);
+            for (int i = 0; i < fixtures.length; i += 4) {
+                out.writeInt((int) fixtures[i]);
+                out.writeInt((int) fixtures[i + 1]);
+                out.writeInt((int) fixtures[i + 2]);
+                out.writeDouble(fixtures[i + 3]);
+            }
+        }
+        return file;
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeNode(DataOutputStream out, int feature, float split, int yes, int no, int missing,
+                                  float leaf) throws IOException {
+        out.writeInt(feature);
+        out.writeFloat(split);
+        out.writeInt(yes);
+        out.writeInt(no);
+        out.writeInt(missing);
+        out.writeFloat(leaf);
+    }
+
+    private static void writeLeaf(DataOutputStream out, float leaf) throws IOException {
+        writeNode(out, -1, 0f, -1, -1, -1, leaf);
+    }
+
+    // 첫 열(주차면수)만 의미 있는 값을 쓰고 나머지 5열은 0
+    private static void writeLot(DataOutputStream out, String name, double mean, int cellWd, int cellHour,
+                                 double cellValue) throws IOException {
+        writeString(out, name);
+        out.writeDouble(mean);
+        for (int c = 1; c < 6; c++) {
+            out.writeDouble(0);
+        }
+        for (int wd = 0; wd < 7; wd++) {
+            for (int hour = 0; hour < 24; hour++) {
+                boolean filled = wd == cellWd && hour == cellHour;
+                out.writeDouble(filled ? cellValue : NaN);
+                for (int c = 1; c < 6; c++) {
+                    out.writeDouble(filled ? 0 : NaN);
+                }
+            }
+        }
+    }
+
+    private static XgbCongestionPredictor load(Path path, double tolerance) {
+        XgbCongestionPredictor predictor = new XgbCongestionPredictor(path.toString(), tolerance);
+        predictor.load();
+        return predictor;
+    }
+
+    @Test
+    void 트리를_따라_예측값을_계산한다() throws IOException {
+        XgbCongestionPredictor predictor = load(writeModel(), 0.01);
+        assertTrue(predictor.isReady());
+
+        // 월요일 8시 셀: 주차면수 2.0 → 2, 시간 -0.67 → 10, 요일 0 → 100
+        assertEquals(142.0, predictor.predict("가양역", 1, 8), 1e-6);
+        // 빈 셀은 주차장 전체 평균(150 → 1.0 → 2), 시간 1.33 → 20, 요일 4 → 200
+        assertEquals(252.0, predictor.predict("가양역", 5, 20), 1e-6);
+        // 주차면수 결측 → missing 분기(2)
+        assertEquals(142.0, predictor.predict("도봉산", 1, 8), 1e-6);
+        // 일요일(7)은 내부 요일 6
+        assertEquals(252.0, predictor.predict("도봉산", 7, 20), 1e-6);
+    }
+
+    @Test
+    void 주차장_인덱스로_조회해도_같은_값이다() throws IOException {
+        XgbCongestionPredictor predictor = load(writeModel(), 0.01);
+
+        int lot = predictor.lotIndexOf("가양역");
+        assertEquals(0, lot);
+        assertEquals(1, predictor.lotIndexOf(" 도봉산 "));
+        assertEquals(-1, predictor.lotIndexOf("없는 주차장"));
+        assertEquals(predictor.predict("가양역", 5, 20), predictor.predict(lot, 5, 20));
+        assertTrue(Double.isNaN(predictor.predict(-1, 5, 20)));
+        assertTrue(Double.isNaN(predictor.predict(lot, 5, 24)));
+    }
+
+    @Test
+    void 검증_샘플과_다르면_모델을_쓰지_않는다() throws IOException {
+        assertTrue(load(writeModel(0, 1, 8, 142.0, 1, 7, 20, 252.0), 0.01).isReady());
+
+        XgbCongestionPredictor mismatched = load(writeModel(0, 1, 8, 142.0, 1, 7, 20, 250.0), 0.01);
+        assertFalse(mismatched.isReady());
+        assertTrue(Double.isNaN(mismatched.predict("가양역", 1, 8)));
+    }
+
+    @Test
+    void 내보낸_모델이_파이썬_예측과_일치한다() {
+        String path = System.getProperty("ai.model.path");
+        assumeTrue(path != null && Files.isReadable(Paths.get(path)), "ai.model.path 미지정");
+
+        // 로드 시 내장된 파이썬 예측 샘플과 비교해 허용 오차를 넘으면 isReady 가 false
+        assertTrue(load(Paths.get(path), 1e-3).isReady());
+    }
+}